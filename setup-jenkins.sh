@@ -92,9 +92,9 @@ install_tools() {
     
     # Check Java
     if ! command -v java &> /dev/null; then
-        print_warning "Java not found. Installing OpenJDK 17..."
-        brew install openjdk@17
-        echo 'export PATH="/opt/homebrew/opt/openjdk@17/bin:$PATH"' >> ~/.zshrc
+        print_warning "Java not found. Installing OpenJDK 21..."
+        brew install openjdk@21
+        echo 'export PATH="/opt/homebrew/opt/openjdk@21/bin:$PATH"' >> ~/.zshrc
         source ~/.zshrc
     else
         print_success "Java is installed: $(java -version 2>&1 | head -n 1)"
@@ -186,7 +186,7 @@ show_next_steps() {
     echo "   - AnsiColor"
     echo ""
     echo "4. ⚙️ Configure Jenkins Tools:"
-    echo "   - JDK-17: /opt/homebrew/Cellar/openjdk/17.0.9/libexec/openjdk.jdk/Contents/Home"
+    echo "   - JDK-21: /opt/homebrew/Cellar/openjdk@21/21.0.1/libexec/openjdk.jdk/Contents/Home"
     echo "   - Maven-3.9: /opt/homebrew/Cellar/maven/3.9.5/libexec"
     echo ""
     echo "5. 🏗️ Create Jenkins Pipeline Job:"
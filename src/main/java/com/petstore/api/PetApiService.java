@@ -1,19 +1,39 @@
 package com.petstore.api;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.core.AsyncHttpClientManager;
+import com.petstore.framework.core.RequestCoalescer;
+import com.petstore.framework.core.RequestIdGenerator;
 import com.petstore.framework.core.RestAssuredManager;
+import com.petstore.framework.execution.BatchExecutor;
+import com.petstore.framework.execution.BatchResult;
+import com.petstore.framework.filters.RequestTimeoutFilter;
+import com.petstore.framework.reporting.ApiBody;
 import com.petstore.framework.reporting.ReportManager;
+import com.petstore.framework.serialization.ModelSerializer;
 import com.petstore.models.Pet;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
-import static io.restassured.RestAssured.given;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Pet API Service for PetStore API operations
@@ -22,14 +42,52 @@ import static io.restassured.RestAssured.given;
 public class PetApiService {
     private static final Logger logger = LogManager.getLogger(PetApiService.class);
     private final RestAssuredManager restAssuredManager;
+    private final AsyncHttpClientManager asyncHttpClientManager;
     private final ReportManager reportManager;
-    private final ObjectMapper objectMapper;
+    private final ModelSerializer modelSerializer;
+    private final RequestCoalescer requestCoalescer;
+    private final Filter timeoutOverride;
     private final String basePath = "/pet";
     
     public PetApiService() {
         this.restAssuredManager = RestAssuredManager.getInstance();
+        this.asyncHttpClientManager = AsyncHttpClientManager.getInstance();
         this.reportManager = ReportManager.getInstance();
-        this.objectMapper = new ObjectMapper();
+        this.modelSerializer = ModelSerializer.getInstance();
+        this.requestCoalescer = RequestCoalescer.getInstance();
+        this.timeoutOverride = null;
+    }
+    
+    private PetApiService(PetApiService service, Filter timeoutOverride, RequestCoalescer requestCoalescer) {
+        this.restAssuredManager = service.restAssuredManager;
+        this.asyncHttpClientManager = service.asyncHttpClientManager;
+        this.reportManager = service.reportManager;
+        this.modelSerializer = service.modelSerializer;
+        this.requestCoalescer = requestCoalescer;
+        this.timeoutOverride = timeoutOverride;
+    }
+    
+    /**
+     * Get a view of this service whose RestAssured calls use the given total timeout instead of the configured one
+     * Its calls are not coalesced: a caller joining another's call would get that caller's deadline
+     */
+    public PetApiService withTimeout(Duration timeout) {
+        return new PetApiService(this, RequestTimeoutFilter.withTimeout(timeout), new RequestCoalescer(false));
+    }
+    
+    /**
+     * Get a view of this service that sends every call itself instead of joining identical calls in flight
+     */
+    public PetApiService withoutCoalescing() {
+        return new PetApiService(this, timeoutOverride, new RequestCoalescer(false));
+    }
+    
+    /**
+     * Start a RestAssured request, carrying the per-call timeout override if this view has one
+     */
+    private RequestSpecification given() {
+        RequestSpecification request = RestAssured.given();
+        return timeoutOverride != null ? request.filter(timeoutOverride) : request;
     }
     
     /**
@@ -39,37 +97,38 @@ public class PetApiService {
         String testName = "CreatePet_" + pet.getName();
         long startTime = System.currentTimeMillis();
         
+        byte[] requestBody;
         try {
-            String requestBody = objectMapper.writeValueAsString(pet);
-            
-            Response response = given()
-                    .spec(restAssuredManager.getDefaultRequestSpec())
-                    .body(requestBody)
-                    .when()
-                    .post(basePath)
-                    .then()
-                    .spec(restAssuredManager.getDefaultResponseSpec())
-                    .extract().response();
-            
-            long responseTime = System.currentTimeMillis() - startTime;
-            
-            // Log API call
-            reportManager.logApiCall(testName, "POST", basePath, requestBody, 
-                    response.getBody().asString(), response.getStatusCode(), responseTime);
-            
-            if (response.getStatusCode() == 200) {
-                Pet createdPet = response.as(Pet.class);
-                logger.info("Pet created successfully: {}", createdPet.getId());
-                return createdPet;
-            } else {
-                logger.error("Failed to create pet. Status: {}", response.getStatusCode());
-                return null;
-            }
-            
-        } catch (JsonProcessingException e) {
+            requestBody = modelSerializer.toJsonBytes(pet);
+        } catch (UncheckedIOException e) {
             logger.error("Error serializing pet object", e);
             return null;
         }
+        
+        Response response = given()
+                .spec(restAssuredManager.getDefaultRequestSpec())
+                .body(requestBody)
+                .when()
+                .post(basePath)
+                .then()
+                .spec(restAssuredManager.getDefaultResponseSpec())
+                .extract().response();
+        
+        long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
+        
+        // Log API call
+        reportManager.logApiExchange(testName, "POST", basePath, ApiBody.of(requestBody),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
+        
+        if (response.getStatusCode() == 200) {
+            Pet createdPet = modelSerializer.fromJson(responseBody, Pet.class);
+            logger.info("Pet created successfully: {}", createdPet.getId());
+            return createdPet;
+        } else {
+            logger.error("Failed to create pet. Status: {}", response.getStatusCode());
+            return null;
+        }
     }
     
     /**
@@ -89,13 +148,14 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/" + petId, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/" + petId, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
-            Pet pet = response.as(Pet.class);
+            Pet pet = modelSerializer.fromJson(responseBody, Pet.class);
             logger.info("Pet retrieved successfully: {}", pet.getName());
             return pet;
         } else {
@@ -121,10 +181,11 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/" + petId, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/" + petId, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         return response;
     }
@@ -136,37 +197,38 @@ public class PetApiService {
         String testName = "UpdatePet_" + pet.getId();
         long startTime = System.currentTimeMillis();
         
+        byte[] requestBody;
         try {
-            String requestBody = objectMapper.writeValueAsString(pet);
-            
-            Response response = given()
-                    .spec(restAssuredManager.getDefaultRequestSpec())
-                    .body(requestBody)
-                    .when()
-                    .put(basePath)
-                    .then()
-                    .spec(restAssuredManager.getDefaultResponseSpec())
-                    .extract().response();
-            
-            long responseTime = System.currentTimeMillis() - startTime;
-            
-            // Log API call
-            reportManager.logApiCall(testName, "PUT", basePath, requestBody, 
-                    response.getBody().asString(), response.getStatusCode(), responseTime);
-            
-            if (response.getStatusCode() == 200) {
-                Pet updatedPet = response.as(Pet.class);
-                logger.info("Pet updated successfully: {}", updatedPet.getId());
-                return updatedPet;
-            } else {
-                logger.error("Failed to update pet. Status: {}", response.getStatusCode());
-                return null;
-            }
-            
-        } catch (JsonProcessingException e) {
+            requestBody = modelSerializer.toJsonBytes(pet);
+        } catch (UncheckedIOException e) {
             logger.error("Error serializing pet object", e);
             return null;
         }
+        
+        Response response = given()
+                .spec(restAssuredManager.getDefaultRequestSpec())
+                .body(requestBody)
+                .when()
+                .put(basePath)
+                .then()
+                .spec(restAssuredManager.getDefaultResponseSpec())
+                .extract().response();
+        
+        long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
+        
+        // Log API call
+        reportManager.logApiExchange(testName, "PUT", basePath, ApiBody.of(requestBody),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
+        
+        if (response.getStatusCode() == 200) {
+            Pet updatedPet = modelSerializer.fromJson(responseBody, Pet.class);
+            logger.info("Pet updated successfully: {}", updatedPet.getId());
+            return updatedPet;
+        } else {
+            logger.error("Failed to update pet. Status: {}", response.getStatusCode());
+            return null;
+        }
     }
     
     /**
@@ -186,10 +248,11 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "DELETE", basePath + "/" + petId, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "DELETE", basePath + "/" + petId, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("Pet deleted successfully: {}", petId);
@@ -200,6 +263,28 @@ public class PetApiService {
         }
     }
     
+    /**
+     * Create pets with batch.concurrency requests in flight; results are the created pets
+     */
+    public BatchResult<Pet, Pet> createPets(Collection<Pet> pets) {
+        return createPets(pets, TestConfig.getInstance().getBatchConcurrency());
+    }
+    
+    public BatchResult<Pet, Pet> createPets(Collection<Pet> pets, int concurrency) {
+        return BatchExecutor.run(pets, concurrency, this::createPet, pet -> true);
+    }
+    
+    /**
+     * Delete pets by ID with batch.concurrency requests in flight
+     */
+    public BatchResult<Long, Boolean> deletePets(Collection<Long> petIds) {
+        return deletePets(petIds, TestConfig.getInstance().getBatchConcurrency());
+    }
+    
+    public BatchResult<Long, Boolean> deletePets(Collection<Long> petIds, int concurrency) {
+        return BatchExecutor.run(petIds, concurrency, this::deletePet, Boolean::booleanValue);
+    }
+    
     /**
      * Delete pet by ID and return response
      */
@@ -217,10 +302,11 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "DELETE", basePath + "/" + petId, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "DELETE", basePath + "/" + petId, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("Pet deleted successfully: {}", petId);
@@ -233,8 +319,15 @@ public class PetApiService {
     
     /**
      * Find pets by status
+     * Concurrent calls for the same status share one request; each caller gets its own list
      */
     public List<Pet> findPetsByStatus(String status) {
+        List<Pet> pets = requestCoalescer.execute("GET /pet/findByStatus?status=" + status,
+                () -> fetchPetsByStatus(status));
+        return pets != null ? new ArrayList<>(pets) : null;
+    }
+    
+    private List<Pet> fetchPetsByStatus(String status) {
         String testName = "FindPetsByStatus_" + status;
         long startTime = System.currentTimeMillis();
         
@@ -248,13 +341,14 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/findByStatus?status=" + status, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/findByStatus?status=" + status, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
-            List<Pet> pets = response.jsonPath().getList("", Pet.class);
+            List<Pet> pets = modelSerializer.fromJsonList(responseBody, Pet.class);
             logger.info("Found {} pets with status: {}", pets.size(), status);
             return pets;
         } else {
@@ -263,6 +357,54 @@ public class PetApiService {
         }
     }
     
+    /**
+     * Find pets by status, streaming them as the response body is parsed
+     * Pets are mapped one at a time from the network stream (no String body, no JsonPath tree, no list), so
+     * a response with thousands of pets runs in constant memory; the body is not attached to the report.
+     * Returns null if the request fails; the caller must close the stream
+     */
+    public Stream<Pet> streamPetsByStatus(String status) {
+        String testName = "FindPetsByStatus_" + status;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/findByStatus";
+        
+        HttpResponse<InputStream> response = asyncHttpClientManager.getStreamAsync(path, Map.of("status", status)).join();
+        reportManager.logApiExchange(testName, "GET", path + "?status=" + status, ApiBody.empty(), ApiBody.empty(),
+                response.statusCode(), System.currentTimeMillis() - startTime,
+                response.request().headers().firstValue(RequestIdGenerator.HEADER).orElse(null));
+        
+        if (response.statusCode() == 200) {
+            return modelSerializer.streamJsonArray(response.body(), Pet.class);
+        }
+        logger.error("Failed to find pets by status. Status: {}", response.statusCode());
+        try (InputStream body = response.body()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            logger.debug("Error draining response body: {}", e.getMessage());
+        }
+        return null;
+    }
+    
+    /**
+     * Find pets by status, handing each pet to the consumer as the response body is parsed
+     * Returns the number of pets, or -1 if the request fails
+     */
+    public long findPetsByStatus(String status, Consumer<? super Pet> consumer) {
+        Stream<Pet> pets = streamPetsByStatus(status);
+        if (pets == null) {
+            return -1;
+        }
+        try (pets) {
+            long[] count = new long[1];
+            pets.forEach(pet -> {
+                consumer.accept(pet);
+                count[0]++;
+            });
+            logger.info("Found {} pets with status: {}", count[0], status);
+            return count[0];
+        }
+    }
+    
     /**
      * Update pet with form data
      */
@@ -282,11 +424,12 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
         String formData = "name=" + name + "&status=" + status;
-        reportManager.logApiCall(testName, "POST", basePath + "/" + petId, formData, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "POST", basePath + "/" + petId, ApiBody.of(formData),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("Pet updated with form successfully: {}", petId);
@@ -316,11 +459,12 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
         String formData = "name=" + name + "&status=" + status;
-        reportManager.logApiCall(testName, "POST", basePath + "/" + petId, formData, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "POST", basePath + "/" + petId, ApiBody.of(formData),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("Pet updated with form successfully: {}", petId);
@@ -350,10 +494,11 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "POST", basePath + "/" + petId + "/uploadImage", 
-                "File: " + filePath, response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "POST", basePath + "/" + petId + "/uploadImage", ApiBody.of("File: " + filePath),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("Pet image uploaded successfully: {}", petId);
@@ -383,10 +528,11 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "POST", basePath + "/" + petId + "/uploadImage", 
-                "File: " + filePath, response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "POST", basePath + "/" + petId + "/uploadImage", ApiBody.of("File: " + filePath),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("Pet image uploaded successfully: {}", petId);
@@ -399,8 +545,14 @@ public class PetApiService {
     
     /**
      * Get pet inventory by status
+     * Concurrent calls (including StoreApiService.getInventory) share one request; each caller gets its own map
      */
     public Map<String, Integer> getPetInventory() {
+        Map<String, Integer> inventory = requestCoalescer.execute("GET /store/inventory", this::fetchPetInventory);
+        return inventory != null ? new LinkedHashMap<>(inventory) : null;
+    }
+    
+    private Map<String, Integer> fetchPetInventory() {
         String testName = "GetPetInventory";
         long startTime = System.currentTimeMillis();
         
@@ -413,13 +565,14 @@ public class PetApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", "/store/inventory", null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", "/store/inventory", ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
-            Map<String, Integer> inventory = response.as(Map.class);
+            Map<String, Integer> inventory = modelSerializer.fromJsonInventory(responseBody);
             logger.info("Pet inventory retrieved successfully");
             return inventory;
         } else {
@@ -427,4 +580,207 @@ public class PetApiService {
             return null;
         }
     }
-} 
\ No newline at end of file
+    
+    // Asynchronous API operations
+    
+    /**
+     * Create a new pet asynchronously
+     */
+    public CompletableFuture<Pet> createPetAsync(Pet pet) {
+        String testName = "CreatePet_" + pet.getName();
+        long startTime = System.currentTimeMillis();
+        
+        byte[] requestBody;
+        try {
+            requestBody = modelSerializer.toJsonBytes(pet);
+        } catch (UncheckedIOException e) {
+            logger.error("Error serializing pet object", e);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        return asyncHttpClientManager.postJsonAsync(basePath, requestBody).thenApply(response -> {
+            logAsyncApiCall(testName, "POST", basePath, ApiBody.of(requestBody), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                Pet createdPet = modelSerializer.fromJson(response.body(), Pet.class);
+                logger.info("Pet created successfully: {}", createdPet.getId());
+                return createdPet;
+            } else {
+                logger.error("Failed to create pet. Status: {}", response.statusCode());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * Get pet by ID asynchronously
+     */
+    public CompletableFuture<Pet> getPetByIdAsync(Long petId) {
+        String testName = "GetPetById_" + petId;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/" + petId;
+        
+        return asyncHttpClientManager.getAsync(basePath + "/{petId}", petId).thenApply(response -> {
+            logAsyncApiCall(testName, "GET", path, ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                Pet pet = modelSerializer.fromJson(response.body(), Pet.class);
+                logger.info("Pet retrieved successfully: {}", pet.getName());
+                return pet;
+            } else {
+                logger.error("Failed to get pet. Status: {}", response.statusCode());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * Update pet asynchronously
+     */
+    public CompletableFuture<Pet> updatePetAsync(Pet pet) {
+        String testName = "UpdatePet_" + pet.getId();
+        long startTime = System.currentTimeMillis();
+        
+        byte[] requestBody;
+        try {
+            requestBody = modelSerializer.toJsonBytes(pet);
+        } catch (UncheckedIOException e) {
+            logger.error("Error serializing pet object", e);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        return asyncHttpClientManager.putJsonAsync(basePath, requestBody).thenApply(response -> {
+            logAsyncApiCall(testName, "PUT", basePath, ApiBody.of(requestBody), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                Pet updatedPet = modelSerializer.fromJson(response.body(), Pet.class);
+                logger.info("Pet updated successfully: {}", updatedPet.getId());
+                return updatedPet;
+            } else {
+                logger.error("Failed to update pet. Status: {}", response.statusCode());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * Delete pet by ID asynchronously
+     */
+    public CompletableFuture<Boolean> deletePetAsync(Long petId) {
+        String testName = "DeletePet_" + petId;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/" + petId;
+        
+        return asyncHttpClientManager.deleteAsync(basePath + "/{petId}", petId).thenApply(response -> {
+            logAsyncApiCall(testName, "DELETE", path, ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                logger.info("Pet deleted successfully: {}", petId);
+                return true;
+            } else {
+                logger.error("Failed to delete pet. Status: {}", response.statusCode());
+                return false;
+            }
+        });
+    }
+    
+    /**
+     * Find pets by status asynchronously
+     */
+    public CompletableFuture<List<Pet>> findPetsByStatusAsync(String status) {
+        String testName = "FindPetsByStatus_" + status;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/findByStatus";
+        
+        return asyncHttpClientManager.getAsync(path, Map.of("status", status)).thenApply(response -> {
+            logAsyncApiCall(testName, "GET", path + "?status=" + status, ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                List<Pet> pets = modelSerializer.fromJsonList(response.body(), Pet.class);
+                logger.info("Found {} pets with status: {}", pets.size(), status);
+                return pets;
+            } else {
+                logger.error("Failed to find pets by status. Status: {}", response.statusCode());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * Update pet with form data asynchronously
+     */
+    public CompletableFuture<Boolean> updatePetWithFormAsync(Long petId, String name, String status) {
+        String testName = "UpdatePetWithForm_" + petId;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/" + petId;
+        
+        Map<String, String> formParams = new LinkedHashMap<>();
+        formParams.put("name", name);
+        formParams.put("status", status);
+        
+        return asyncHttpClientManager.postFormAsync(basePath + "/{petId}", formParams,
+                petId).thenApply(response -> {
+            String formData = "name=" + name + "&status=" + status;
+            logAsyncApiCall(testName, "POST", path, ApiBody.of(formData), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                logger.info("Pet updated with form successfully: {}", petId);
+                return true;
+            } else {
+                logger.error("Failed to update pet with form. Status: {}", response.statusCode());
+                return false;
+            }
+        });
+    }
+    
+    /**
+     * Upload pet image asynchronously
+     */
+    public CompletableFuture<Boolean> uploadPetImageAsync(Long petId, String additionalMetadata, String filePath) {
+        String testName = "UploadPetImage_" + petId;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/" + petId + "/uploadImage";
+        
+        return asyncHttpClientManager.postMultipartAsync(basePath + "/{petId}/uploadImage",
+                Map.of("additionalMetadata", additionalMetadata), "file", Paths.get(filePath), petId).thenApply(response -> {
+            logAsyncApiCall(testName, "POST", path, ApiBody.of("File: " + filePath), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                logger.info("Pet image uploaded successfully: {}", petId);
+                return true;
+            } else {
+                logger.error("Failed to upload pet image. Status: {}", response.statusCode());
+                return false;
+            }
+        });
+    }
+    
+    /**
+     * Get pet inventory by status asynchronously
+     */
+    public CompletableFuture<Map<String, Integer>> getPetInventoryAsync() {
+        String testName = "GetPetInventory";
+        long startTime = System.currentTimeMillis();
+        
+        return asyncHttpClientManager.getAuthenticatedAsync("/store/inventory").thenApply(response -> {
+            logAsyncApiCall(testName, "GET", "/store/inventory", ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                Map<String, Integer> inventory = modelSerializer.fromJsonInventory(response.body());
+                logger.info("Pet inventory retrieved successfully");
+                return inventory;
+            } else {
+                logger.error("Failed to get pet inventory. Status: {}", response.statusCode());
+                return null;
+            }
+        });
+    }
+    
+    private void logAsyncApiCall(String testName, String method, String url, ApiBody requestBody,
+                                 HttpResponse<String> response, long startTime) {
+        long responseTime = System.currentTimeMillis() - startTime;
+        reportManager.logApiExchange(testName, method, url, requestBody,
+                ApiBody.of(response.body()), response.statusCode(), responseTime,
+                response.request().headers().firstValue(RequestIdGenerator.HEADER).orElse(null));
+    }
+}
@@ -1,18 +1,31 @@
 package com.petstore.api;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.core.AsyncHttpClientManager;
+import com.petstore.framework.core.RequestCoalescer;
+import com.petstore.framework.core.RequestIdGenerator;
 import com.petstore.framework.core.RestAssuredManager;
+import com.petstore.framework.execution.BatchExecutor;
+import com.petstore.framework.execution.BatchResult;
+import com.petstore.framework.filters.RequestTimeoutFilter;
+import com.petstore.framework.reporting.ApiBody;
 import com.petstore.framework.reporting.ReportManager;
+import com.petstore.framework.serialization.ModelSerializer;
 import com.petstore.models.Order;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
-
-import static io.restassured.RestAssured.given;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Store API Service for PetStore API operations
@@ -21,20 +34,64 @@ import static io.restassured.RestAssured.given;
 public class StoreApiService {
     private static final Logger logger = LogManager.getLogger(StoreApiService.class);
     private final RestAssuredManager restAssuredManager;
+    private final AsyncHttpClientManager asyncHttpClientManager;
     private final ReportManager reportManager;
-    private final ObjectMapper objectMapper;
+    private final ModelSerializer modelSerializer;
+    private final RequestCoalescer requestCoalescer;
+    private final Filter timeoutOverride;
     private final String basePath = "/store";
     
     public StoreApiService() {
         this.restAssuredManager = RestAssuredManager.getInstance();
+        this.asyncHttpClientManager = AsyncHttpClientManager.getInstance();
         this.reportManager = ReportManager.getInstance();
-        this.objectMapper = new ObjectMapper();
+        this.modelSerializer = ModelSerializer.getInstance();
+        this.requestCoalescer = RequestCoalescer.getInstance();
+        this.timeoutOverride = null;
+    }
+    
+    private StoreApiService(StoreApiService service, Filter timeoutOverride, RequestCoalescer requestCoalescer) {
+        this.restAssuredManager = service.restAssuredManager;
+        this.asyncHttpClientManager = service.asyncHttpClientManager;
+        this.reportManager = service.reportManager;
+        this.modelSerializer = service.modelSerializer;
+        this.requestCoalescer = requestCoalescer;
+        this.timeoutOverride = timeoutOverride;
+    }
+    
+    /**
+     * Get a view of this service whose RestAssured calls use the given total timeout instead of the configured one
+     * Its calls are not coalesced: a caller joining another's call would get that caller's deadline
+     */
+    public StoreApiService withTimeout(Duration timeout) {
+        return new StoreApiService(this, RequestTimeoutFilter.withTimeout(timeout), new RequestCoalescer(false));
+    }
+    
+    /**
+     * Get a view of this service that sends every call itself instead of joining identical calls in flight
+     */
+    public StoreApiService withoutCoalescing() {
+        return new StoreApiService(this, timeoutOverride, new RequestCoalescer(false));
+    }
+    
+    /**
+     * Start a RestAssured request, carrying the per-call timeout override if this view has one
+     */
+    private RequestSpecification given() {
+        RequestSpecification request = RestAssured.given();
+        return timeoutOverride != null ? request.filter(timeoutOverride) : request;
     }
     
     /**
      * Get store inventory
+     * Concurrent calls (including PetApiService.getPetInventory) share one request; each caller gets its own map
      */
     public Map<String, Integer> getInventory() {
+        Map<String, Integer> inventory = requestCoalescer.execute("GET /store/inventory", this::fetchInventory);
+        return inventory != null ? new LinkedHashMap<>(inventory) : null;
+    }
+    
+    private Map<String, Integer> fetchInventory() {
         String testName = "GetInventory";
         long startTime = System.currentTimeMillis();
         
@@ -47,13 +104,14 @@ public class StoreApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/inventory", null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/inventory", ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
-            Map<String, Integer> inventory = response.as(Map.class);
+            Map<String, Integer> inventory = modelSerializer.fromJsonInventory(responseBody);
             logger.info("Store inventory retrieved successfully");
             return inventory;
         } else {
@@ -69,37 +127,49 @@ public class StoreApiService {
         String testName = "CreateOrder_" + order.getPetId();
         long startTime = System.currentTimeMillis();
         
+        byte[] requestBody;
         try {
-            String requestBody = objectMapper.writeValueAsString(order);
-            
-            Response response = given()
-                    .spec(restAssuredManager.getDefaultRequestSpec())
-                    .body(requestBody)
-                    .when()
-                    .post(basePath + "/order")
-                    .then()
-                    .spec(restAssuredManager.getDefaultResponseSpec())
-                    .extract().response();
-            
-            long responseTime = System.currentTimeMillis() - startTime;
-            
-            // Log API call
-            reportManager.logApiCall(testName, "POST", basePath + "/order", requestBody, 
-                    response.getBody().asString(), response.getStatusCode(), responseTime);
-            
-            if (response.getStatusCode() == 200) {
-                Order createdOrder = response.as(Order.class);
-                logger.info("Order created successfully: {}", createdOrder.getId());
-                return createdOrder;
-            } else {
-                logger.error("Failed to create order. Status: {}", response.getStatusCode());
-                return null;
-            }
-            
-        } catch (JsonProcessingException e) {
+            requestBody = modelSerializer.toJsonBytes(order);
+        } catch (UncheckedIOException e) {
             logger.error("Error serializing order object", e);
             return null;
         }
+        
+        Response response = given()
+                .spec(restAssuredManager.getDefaultRequestSpec())
+                .body(requestBody)
+                .when()
+                .post(basePath + "/order")
+                .then()
+                .spec(restAssuredManager.getDefaultResponseSpec())
+                .extract().response();
+        
+        long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
+        
+        // Log API call
+        reportManager.logApiExchange(testName, "POST", basePath + "/order", ApiBody.of(requestBody),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
+        
+        if (response.getStatusCode() == 200) {
+            Order createdOrder = modelSerializer.fromJson(responseBody, Order.class);
+            logger.info("Order created successfully: {}", createdOrder.getId());
+            return createdOrder;
+        } else {
+            logger.error("Failed to create order. Status: {}", response.getStatusCode());
+            return null;
+        }
+    }
+    
+    /**
+     * Place orders with batch.concurrency requests in flight; results are the created orders
+     */
+    public BatchResult<Order, Order> createOrders(Collection<Order> orders) {
+        return createOrders(orders, TestConfig.getInstance().getBatchConcurrency());
+    }
+    
+    public BatchResult<Order, Order> createOrders(Collection<Order> orders, int concurrency) {
+        return BatchExecutor.run(orders, concurrency, this::createOrder, order -> true);
     }
     
     /**
@@ -110,7 +180,7 @@ public class StoreApiService {
         long startTime = System.currentTimeMillis();
         
         try {
-            String requestBody = objectMapper.writeValueAsString(order);
+            byte[] requestBody = modelSerializer.toJsonBytes(order);
             
             Response response = given()
                     .spec(restAssuredManager.getDefaultRequestSpec())
@@ -122,14 +192,15 @@ public class StoreApiService {
                     .extract().response();
             
             long responseTime = System.currentTimeMillis() - startTime;
+            byte[] responseBody = response.asByteArray();
             
             // Log API call
-            reportManager.logApiCall(testName, "POST", basePath + "/order", requestBody, 
-                    response.getBody().asString(), response.getStatusCode(), responseTime);
+            reportManager.logApiExchange(testName, "POST", basePath + "/order", ApiBody.of(requestBody),
+                    ApiBody.of(responseBody), response.getStatusCode(), responseTime);
             
             return response;
             
-        } catch (JsonProcessingException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error serializing order object", e);
             return null;
         }
@@ -152,13 +223,14 @@ public class StoreApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/order/" + orderId, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/order/" + orderId, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
-            Order order = response.as(Order.class);
+            Order order = modelSerializer.fromJson(responseBody, Order.class);
             logger.info("Order retrieved successfully: {}", order.getId());
             return order;
         } else {
@@ -184,10 +256,11 @@ public class StoreApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/order/" + orderId, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/order/" + orderId, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         return response;
     }
@@ -209,10 +282,11 @@ public class StoreApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "DELETE", basePath + "/order/" + orderId, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "DELETE", basePath + "/order/" + orderId, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("Order deleted successfully: {}", orderId);
@@ -222,4 +296,109 @@ public class StoreApiService {
         
         return response;
     }
-} 
\ No newline at end of file
+    
+    // Asynchronous API operations
+    
+    /**
+     * Get store inventory asynchronously
+     */
+    public CompletableFuture<Map<String, Integer>> getInventoryAsync() {
+        String testName = "GetInventory";
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/inventory";
+        
+        return asyncHttpClientManager.getAuthenticatedAsync(path).thenApply(response -> {
+            logAsyncApiCall(testName, "GET", path, ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                Map<String, Integer> inventory = modelSerializer.fromJsonInventory(response.body());
+                logger.info("Store inventory retrieved successfully");
+                return inventory;
+            } else {
+                logger.error("Failed to get store inventory. Status: {}", response.statusCode());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * Create a new order asynchronously
+     */
+    public CompletableFuture<Order> createOrderAsync(Order order) {
+        String testName = "CreateOrder_" + order.getPetId();
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/order";
+        
+        byte[] requestBody;
+        try {
+            requestBody = modelSerializer.toJsonBytes(order);
+        } catch (UncheckedIOException e) {
+            logger.error("Error serializing order object", e);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        return asyncHttpClientManager.postJsonAsync(path, requestBody).thenApply(response -> {
+            logAsyncApiCall(testName, "POST", path, ApiBody.of(requestBody), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                Order createdOrder = modelSerializer.fromJson(response.body(), Order.class);
+                logger.info("Order created successfully: {}", createdOrder.getId());
+                return createdOrder;
+            } else {
+                logger.error("Failed to create order. Status: {}", response.statusCode());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * Get order by ID asynchronously
+     */
+    public CompletableFuture<Order> getOrderByIdAsync(Long orderId) {
+        String testName = "GetOrderById_" + orderId;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/order/" + orderId;
+        
+        return asyncHttpClientManager.getAsync(basePath + "/order/{orderId}", orderId).thenApply(response -> {
+            logAsyncApiCall(testName, "GET", path, ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                Order order = modelSerializer.fromJson(response.body(), Order.class);
+                logger.info("Order retrieved successfully: {}", order.getId());
+                return order;
+            } else {
+                logger.error("Failed to get order. Status: {}", response.statusCode());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * Delete order by ID asynchronously
+     */
+    public CompletableFuture<HttpResponse<String>> deleteOrderAsync(Long orderId) {
+        String testName = "DeleteOrder_" + orderId;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/order/" + orderId;
+        
+        return asyncHttpClientManager.deleteAsync(basePath + "/order/{orderId}", orderId).thenApply(response -> {
+            logAsyncApiCall(testName, "DELETE", path, ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                logger.info("Order deleted successfully: {}", orderId);
+            } else {
+                logger.error("Failed to delete order. Status: {}", response.statusCode());
+            }
+            
+            return response;
+        });
+    }
+    
+    private void logAsyncApiCall(String testName, String method, String url, ApiBody requestBody,
+                                 HttpResponse<String> response, long startTime) {
+        long responseTime = System.currentTimeMillis() - startTime;
+        reportManager.logApiExchange(testName, method, url, requestBody,
+                ApiBody.of(response.body()), response.statusCode(), responseTime,
+                response.request().headers().firstValue(RequestIdGenerator.HEADER).orElse(null));
+    }
+}
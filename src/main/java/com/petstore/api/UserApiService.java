@@ -1,18 +1,35 @@
 package com.petstore.api;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.core.AsyncHttpClientManager;
+import com.petstore.framework.core.RequestIdGenerator;
 import com.petstore.framework.core.RestAssuredManager;
+import com.petstore.framework.execution.BatchExecutor;
+import com.petstore.framework.execution.BatchResult;
+import com.petstore.framework.filters.RequestTimeoutFilter;
+import com.petstore.framework.reporting.ApiBody;
 import com.petstore.framework.reporting.ReportManager;
+import com.petstore.framework.serialization.ModelSerializer;
 import com.petstore.models.User;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import static io.restassured.RestAssured.given;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * User API Service for PetStore API operations
@@ -21,14 +38,46 @@ import static io.restassured.RestAssured.given;
 public class UserApiService {
     private static final Logger logger = LogManager.getLogger(UserApiService.class);
     private final RestAssuredManager restAssuredManager;
+    private final AsyncHttpClientManager asyncHttpClientManager;
     private final ReportManager reportManager;
-    private final ObjectMapper objectMapper;
+    private final ModelSerializer modelSerializer;
+    private final Filter timeoutOverride;
     private final String basePath = "/user";
     
+    private static final Set<Integer> UNSUPPORTED_STATUS_CODES = Set.of(404, 405, 501);
+    private static final Predicate<Response> OK = response -> response.getStatusCode() == 200;
+    // Base URLs whose createWithList endpoint has answered with one of UNSUPPORTED_STATUS_CODES
+    private static final Set<String> BULK_CREATE_UNSUPPORTED = ConcurrentHashMap.newKeySet();
+    
     public UserApiService() {
         this.restAssuredManager = RestAssuredManager.getInstance();
+        this.asyncHttpClientManager = AsyncHttpClientManager.getInstance();
         this.reportManager = ReportManager.getInstance();
-        this.objectMapper = new ObjectMapper();
+        this.modelSerializer = ModelSerializer.getInstance();
+        this.timeoutOverride = null;
+    }
+    
+    private UserApiService(UserApiService service, Duration timeout) {
+        this.restAssuredManager = service.restAssuredManager;
+        this.asyncHttpClientManager = service.asyncHttpClientManager;
+        this.reportManager = service.reportManager;
+        this.modelSerializer = service.modelSerializer;
+        this.timeoutOverride = RequestTimeoutFilter.withTimeout(timeout);
+    }
+    
+    /**
+     * Get a view of this service whose RestAssured calls use the given total timeout instead of the configured one
+     */
+    public UserApiService withTimeout(Duration timeout) {
+        return new UserApiService(this, timeout);
+    }
+    
+    /**
+     * Start a RestAssured request, carrying the per-call timeout override if this view has one
+     */
+    private RequestSpecification given() {
+        RequestSpecification request = RestAssured.given();
+        return timeoutOverride != null ? request.filter(timeoutOverride) : request;
     }
     
     /**
@@ -39,7 +88,7 @@ public class UserApiService {
         long startTime = System.currentTimeMillis();
         
         try {
-            String requestBody = objectMapper.writeValueAsString(user);
+            byte[] requestBody = modelSerializer.toJsonBytes(user);
             
             Response response = given()
                     .spec(restAssuredManager.getDefaultRequestSpec())
@@ -51,10 +100,11 @@ public class UserApiService {
                     .extract().response();
             
             long responseTime = System.currentTimeMillis() - startTime;
+            byte[] responseBody = response.asByteArray();
             
             // Log API call
-            reportManager.logApiCall(testName, "POST", basePath, requestBody, 
-                    response.getBody().asString(), response.getStatusCode(), responseTime);
+            reportManager.logApiExchange(testName, "POST", basePath, ApiBody.of(requestBody),
+                    ApiBody.of(responseBody), response.getStatusCode(), responseTime);
             
             if (response.getStatusCode() == 200) {
                 logger.info("User created successfully: {}", user.getUsername());
@@ -64,7 +114,7 @@ public class UserApiService {
             
             return response;
             
-        } catch (JsonProcessingException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error serializing user object", e);
             return null;
         }
@@ -78,7 +128,7 @@ public class UserApiService {
         long startTime = System.currentTimeMillis();
         
         try {
-            String requestBody = objectMapper.writeValueAsString(users);
+            byte[] requestBody = modelSerializer.toJsonBytes(users);
             
             Response response = given()
                     .spec(restAssuredManager.getDefaultRequestSpec())
@@ -90,10 +140,11 @@ public class UserApiService {
                     .extract().response();
             
             long responseTime = System.currentTimeMillis() - startTime;
+            byte[] responseBody = response.asByteArray();
             
             // Log API call
-            reportManager.logApiCall(testName, "POST", basePath + "/createWithArray", requestBody, 
-                    response.getBody().asString(), response.getStatusCode(), responseTime);
+            reportManager.logApiExchange(testName, "POST", basePath + "/createWithArray", ApiBody.of(requestBody),
+                    ApiBody.of(responseBody), response.getStatusCode(), responseTime);
             
             if (response.getStatusCode() == 200) {
                 logger.info("Users created successfully with array: {}", users.length);
@@ -103,7 +154,7 @@ public class UserApiService {
             
             return response;
             
-        } catch (JsonProcessingException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error serializing users array", e);
             return null;
         }
@@ -117,7 +168,7 @@ public class UserApiService {
         long startTime = System.currentTimeMillis();
         
         try {
-            String requestBody = objectMapper.writeValueAsString(users);
+            byte[] requestBody = modelSerializer.toJsonBytes(users);
             
             Response response = given()
                     .spec(restAssuredManager.getDefaultRequestSpec())
@@ -129,10 +180,11 @@ public class UserApiService {
                     .extract().response();
             
             long responseTime = System.currentTimeMillis() - startTime;
+            byte[] responseBody = response.asByteArray();
             
             // Log API call
-            reportManager.logApiCall(testName, "POST", basePath + "/createWithList", requestBody, 
-                    response.getBody().asString(), response.getStatusCode(), responseTime);
+            reportManager.logApiExchange(testName, "POST", basePath + "/createWithList", ApiBody.of(requestBody),
+                    ApiBody.of(responseBody), response.getStatusCode(), responseTime);
             
             if (response.getStatusCode() == 200) {
                 logger.info("Users created successfully with list: {}", users.size());
@@ -142,12 +194,74 @@ public class UserApiService {
             
             return response;
             
-        } catch (JsonProcessingException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error serializing users list", e);
             return null;
         }
     }
     
+    /**
+     * Create users in createWithList requests of batch.user.chunk.size users, batch.concurrency at a time
+     * Where the server does not support the bulk endpoint (404, 405 or 501) the users are created one by one,
+     * and later batches against the same base URL skip straight to that. Each user's result is the response
+     * that created it, shared by the users of a chunk
+     */
+    public BatchResult<User, Response> createUsers(Collection<User> users) {
+        TestConfig config = TestConfig.getInstance();
+        return createUsers(users, config.getBatchUserChunkSize(), config.getBatchConcurrency());
+    }
+    
+    public BatchResult<User, Response> createUsers(Collection<User> users, int chunkSize, int concurrency) {
+        String baseUrl = restAssuredManager.getBaseUri();
+        if (chunkSize <= 0 || BULK_CREATE_UNSUPPORTED.contains(baseUrl)) {
+            return BatchExecutor.run(users, concurrency, this::createUser, OK);
+        }
+        
+        List<User> ordered = new ArrayList<>(users);
+        List<List<User>> chunks = new ArrayList<>();
+        for (int from = 0; from < ordered.size(); from += chunkSize) {
+            chunks.add(ordered.subList(from, Math.min(from + chunkSize, ordered.size())));
+        }
+        BatchResult<List<User>, Response> chunkResults = BatchExecutor.run(chunks, concurrency, chunk -> {
+            Response response = createUsersWithList(chunk);
+            if (response != null && UNSUPPORTED_STATUS_CODES.contains(response.getStatusCode())) {
+                if (BULK_CREATE_UNSUPPORTED.add(baseUrl)) {
+                    logger.warn("{} does not support {}/createWithList (status {}); creating users one by one",
+                            baseUrl, basePath, response.getStatusCode());
+                }
+            }
+            return response;
+        }, OK);
+        
+        List<BatchResult.Item<User, Response>> items = new ArrayList<>(ordered.size());
+        List<Integer> fallbackIndexes = new ArrayList<>();
+        List<User> fallbackUsers = new ArrayList<>();
+        for (BatchResult.Item<List<User>, Response> chunk : chunkResults.getItems()) {
+            Response response = chunk.getResult();
+            boolean unsupported = response != null && UNSUPPORTED_STATUS_CODES.contains(response.getStatusCode());
+            for (User user : chunk.getInput()) {
+                if (unsupported) {
+                    fallbackIndexes.add(items.size());
+                    fallbackUsers.add(user);
+                    items.add(null);
+                } else if (chunk.getError() != null) {
+                    items.add(BatchResult.Item.error(user, chunk.getError()));
+                } else {
+                    items.add(chunk.isSuccess() ? BatchResult.Item.success(user, response)
+                            : BatchResult.Item.failure(user, response));
+                }
+            }
+        }
+        if (!fallbackUsers.isEmpty()) {
+            List<BatchResult.Item<User, Response>> created =
+                    BatchExecutor.run(fallbackUsers, concurrency, this::createUser, OK).getItems();
+            for (int i = 0; i < created.size(); i++) {
+                items.set(fallbackIndexes.get(i), created.get(i));
+            }
+        }
+        return new BatchResult<>(items);
+    }
+    
     /**
      * Get user by username
      */
@@ -165,13 +279,14 @@ public class UserApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/" + username, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/" + username, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
-            User user = response.as(User.class);
+            User user = modelSerializer.fromJson(responseBody, User.class);
             logger.info("User retrieved successfully: {}", user.getUsername());
             return user;
         } else {
@@ -197,10 +312,11 @@ public class UserApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/" + username, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/" + username, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         return response;
     }
@@ -213,7 +329,7 @@ public class UserApiService {
         long startTime = System.currentTimeMillis();
         
         try {
-            String requestBody = objectMapper.writeValueAsString(user);
+            byte[] requestBody = modelSerializer.toJsonBytes(user);
             
             Response response = given()
                     .spec(restAssuredManager.getDefaultRequestSpec())
@@ -226,10 +342,11 @@ public class UserApiService {
                     .extract().response();
             
             long responseTime = System.currentTimeMillis() - startTime;
+            byte[] responseBody = response.asByteArray();
             
             // Log API call
-            reportManager.logApiCall(testName, "PUT", basePath + "/" + username, requestBody, 
-                    response.getBody().asString(), response.getStatusCode(), responseTime);
+            reportManager.logApiExchange(testName, "PUT", basePath + "/" + username, ApiBody.of(requestBody),
+                    ApiBody.of(responseBody), response.getStatusCode(), responseTime);
             
             if (response.getStatusCode() == 200) {
                 logger.info("User updated successfully: {}", username);
@@ -239,7 +356,7 @@ public class UserApiService {
             
             return response;
             
-        } catch (JsonProcessingException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error serializing user object", e);
             return null;
         }
@@ -262,10 +379,11 @@ public class UserApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "DELETE", basePath + "/" + username, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "DELETE", basePath + "/" + username, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("User deleted successfully: {}", username);
@@ -276,6 +394,17 @@ public class UserApiService {
         return response;
     }
     
+    /**
+     * Delete users by username with batch.concurrency requests in flight
+     */
+    public BatchResult<String, Response> deleteUsers(Collection<String> usernames) {
+        return deleteUsers(usernames, TestConfig.getInstance().getBatchConcurrency());
+    }
+    
+    public BatchResult<String, Response> deleteUsers(Collection<String> usernames, int concurrency) {
+        return BatchExecutor.run(usernames, concurrency, this::deleteUser, OK);
+    }
+    
     /**
      * User login
      */
@@ -294,10 +423,11 @@ public class UserApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/login?username=" + username + "&password=" + password, null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/login?username=" + username + "&password=" + password, ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("User login successful: {}", username);
@@ -324,10 +454,11 @@ public class UserApiService {
                 .extract().response();
         
         long responseTime = System.currentTimeMillis() - startTime;
+        byte[] responseBody = response.asByteArray();
         
         // Log API call
-        reportManager.logApiCall(testName, "GET", basePath + "/logout", null, 
-                response.getBody().asString(), response.getStatusCode(), responseTime);
+        reportManager.logApiExchange(testName, "GET", basePath + "/logout", ApiBody.empty(),
+                ApiBody.of(responseBody), response.getStatusCode(), responseTime);
         
         if (response.getStatusCode() == 200) {
             logger.info("User logout successful");
@@ -337,4 +468,184 @@ public class UserApiService {
         
         return response;
     }
-} 
\ No newline at end of file
+    
+    // Asynchronous API operations
+    
+    /**
+     * Create a new user asynchronously
+     */
+    public CompletableFuture<HttpResponse<String>> createUserAsync(User user) {
+        String testName = "CreateUser_" + user.getUsername();
+        return postJsonAsync(testName, basePath, user, "User created successfully: " + user.getUsername(),
+                "Failed to create user");
+    }
+    
+    /**
+     * Create multiple users with array asynchronously
+     */
+    public CompletableFuture<HttpResponse<String>> createUsersWithArrayAsync(User[] users) {
+        return postJsonAsync("CreateUsersWithArray", basePath + "/createWithArray", users,
+                "Users created successfully with array: " + users.length, "Failed to create users with array");
+    }
+    
+    /**
+     * Create multiple users with list asynchronously
+     */
+    public CompletableFuture<HttpResponse<String>> createUsersWithListAsync(List<User> users) {
+        return postJsonAsync("CreateUsersWithList", basePath + "/createWithList", users,
+                "Users created successfully with list: " + users.size(), "Failed to create users with list");
+    }
+    
+    /**
+     * Get user by username asynchronously
+     */
+    public CompletableFuture<User> getUserByUsernameAsync(String username) {
+        String testName = "GetUserByUsername_" + username;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/" + AsyncHttpClientManager.encodePathSegment(username);
+        
+        return asyncHttpClientManager.getAsync(basePath + "/{username}", username).thenApply(response -> {
+            logAsyncApiCall(testName, "GET", basePath + "/" + username, ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                User user = modelSerializer.fromJson(response.body(), User.class);
+                logger.info("User retrieved successfully: {}", user.getUsername());
+                return user;
+            } else {
+                logger.error("Failed to get user. Status: {}", response.statusCode());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * Update user by username asynchronously
+     */
+    public CompletableFuture<HttpResponse<String>> updateUserAsync(String username, User user) {
+        String testName = "UpdateUser_" + username;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/" + AsyncHttpClientManager.encodePathSegment(username);
+        
+        byte[] requestBody;
+        try {
+            requestBody = modelSerializer.toJsonBytes(user);
+        } catch (UncheckedIOException e) {
+            logger.error("Error serializing user object", e);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        return asyncHttpClientManager.putJsonAsync(basePath + "/{username}", requestBody,
+                username).thenApply(response -> {
+            logAsyncApiCall(testName, "PUT", basePath + "/" + username, ApiBody.of(requestBody), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                logger.info("User updated successfully: {}", username);
+            } else {
+                logger.error("Failed to update user. Status: {}", response.statusCode());
+            }
+            
+            return response;
+        });
+    }
+    
+    /**
+     * Delete user by username asynchronously
+     */
+    public CompletableFuture<HttpResponse<String>> deleteUserAsync(String username) {
+        String testName = "DeleteUser_" + username;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/" + AsyncHttpClientManager.encodePathSegment(username);
+        
+        return asyncHttpClientManager.deleteAsync(basePath + "/{username}", username).thenApply(response -> {
+            logAsyncApiCall(testName, "DELETE", basePath + "/" + username, ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                logger.info("User deleted successfully: {}", username);
+            } else {
+                logger.error("Failed to delete user. Status: {}", response.statusCode());
+            }
+            
+            return response;
+        });
+    }
+    
+    /**
+     * User login asynchronously
+     */
+    public CompletableFuture<HttpResponse<String>> loginAsync(String username, String password) {
+        String testName = "UserLogin_" + username;
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/login";
+        
+        Map<String, String> queryParams = new LinkedHashMap<>();
+        queryParams.put("username", username);
+        queryParams.put("password", password);
+        
+        return asyncHttpClientManager.getAsync(path, queryParams).thenApply(response -> {
+            logAsyncApiCall(testName, "GET", path + "?username=" + username + "&password=" + password,
+                    ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                logger.info("User login successful: {}", username);
+            } else {
+                logger.error("User login failed. Status: {}", response.statusCode());
+            }
+            
+            return response;
+        });
+    }
+    
+    /**
+     * User logout asynchronously
+     */
+    public CompletableFuture<HttpResponse<String>> logoutAsync() {
+        String testName = "UserLogout";
+        long startTime = System.currentTimeMillis();
+        String path = basePath + "/logout";
+        
+        return asyncHttpClientManager.getAsync(path).thenApply(response -> {
+            logAsyncApiCall(testName, "GET", path, ApiBody.empty(), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                logger.info("User logout successful");
+            } else {
+                logger.error("User logout failed. Status: {}", response.statusCode());
+            }
+            
+            return response;
+        });
+    }
+    
+    private CompletableFuture<HttpResponse<String>> postJsonAsync(String testName, String path, Object body,
+                                                                  String successMessage, String failureMessage) {
+        long startTime = System.currentTimeMillis();
+        
+        byte[] requestBody;
+        try {
+            requestBody = modelSerializer.toJsonBytes(body);
+        } catch (UncheckedIOException e) {
+            logger.error("Error serializing user payload", e);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        return asyncHttpClientManager.postJsonAsync(path, requestBody).thenApply(response -> {
+            logAsyncApiCall(testName, "POST", path, ApiBody.of(requestBody), response, startTime);
+            
+            if (response.statusCode() == 200) {
+                logger.info(successMessage);
+            } else {
+                logger.error("{}. Status: {}", failureMessage, response.statusCode());
+            }
+            
+            return response;
+        });
+    }
+    
+    private void logAsyncApiCall(String testName, String method, String url, ApiBody requestBody,
+                                 HttpResponse<String> response, long startTime) {
+        long responseTime = System.currentTimeMillis() - startTime;
+        reportManager.logApiExchange(testName, method, url, requestBody,
+                ApiBody.of(response.body()), response.statusCode(), responseTime,
+                response.request().headers().firstValue(RequestIdGenerator.HEADER).orElse(null));
+    }
+}
@@ -0,0 +1,232 @@
+package com.petstore.framework.cassette;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recorded HTTP interactions of one suite, keyed by request (see CassetteFilter)
+ * File layout: magic, then the interactions back to back (status, status line, headers, body), then an index
+ * of key -> interaction offsets and a footer holding the index offset. Replay memory-maps the file and only
+ * reads the index up front; each interaction is decoded from the mapping when it is served. Interactions
+ * recorded under the same key are replayed in recording order, the last one repeating once they run out
+ */
+public class Cassette {
+    private static final int MAGIC = 0x50534331;
+    private static final int FOOTER_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final Path file;
+    private final Map<String, List<Interaction>> recorded;
+    private final ByteBuffer mapped;
+    private final Map<String, int[]> index;
+    private final Map<String, AtomicInteger> cursors;
+
+    private Cassette(Path file, Map<String, List<Interaction>> recorded, ByteBuffer mapped, Map<String, int[]> index) {
+        this.file = file;
+        this.recorded = recorded;
+        this.mapped = mapped;
+        this.index = index;
+        this.cursors = new HashMap<>();
+        index.keySet().forEach(key -> cursors.put(key, new AtomicInteger()));
+    }
+
+    /**
+     * Empty cassette collecting interactions until save()
+     */
+    public static Cassette forRecording(Path file) {
+        return new Cassette(file, new LinkedHashMap<>(), null, Map.of());
+    }
+
+    /**
+     * Map a recorded cassette for replay
+     */
+    public static Cassette load(Path file) throws IOException {
+        ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int size = mapped.capacity();
+        if (size < Integer.BYTES + FOOTER_BYTES || mapped.getInt(0) != MAGIC || mapped.getInt(size - Integer.BYTES) != MAGIC) {
+            throw new IOException("Not a cassette file: " + file);
+        }
+        int position = (int) mapped.getLong(size - FOOTER_BYTES);
+        int keys = mapped.getInt(position);
+        position += Integer.BYTES;
+        Map<String, int[]> index = new HashMap<>(keys * 2);
+        for (int i = 0; i < keys; i++) {
+            String key = readString(mapped, position);
+            position += Integer.BYTES + mapped.getInt(position);
+            int[] offsets = new int[mapped.getInt(position)];
+            position += Integer.BYTES;
+            for (int j = 0; j < offsets.length; j++) {
+                offsets[j] = mapped.getInt(position);
+                position += Integer.BYTES;
+            }
+            index.put(key, offsets);
+        }
+        return new Cassette(file, null, mapped, index);
+    }
+
+    public synchronized void record(String key, Interaction interaction) {
+        recorded.computeIfAbsent(key, k -> new ArrayList<>()).add(interaction);
+    }
+
+    /**
+     * Next interaction recorded for the key, or null if there is none
+     */
+    public Interaction replay(String key) {
+        int[] offsets = index.get(key);
+        if (offsets == null) {
+            return null;
+        }
+        int next = Math.min(cursors.get(key).getAndIncrement(), offsets.length - 1);
+        return Interaction.read(mapped, offsets[next]);
+    }
+
+    /**
+     * Write the recorded interactions, replacing the file atomically
+     */
+    public synchronized void save() throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            Map<String, int[]> offsets = new LinkedHashMap<>();
+            for (Map.Entry<String, List<Interaction>> entry : recorded.entrySet()) {
+                int[] keyOffsets = new int[entry.getValue().size()];
+                for (int i = 0; i < keyOffsets.length; i++) {
+                    keyOffsets[i] = out.size();
+                    entry.getValue().get(i).write(out);
+                }
+                offsets.put(entry.getKey(), keyOffsets);
+            }
+            long indexOffset = out.size();
+            out.writeInt(offsets.size());
+            for (Map.Entry<String, int[]> entry : offsets.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().length);
+                for (int offset : entry.getValue()) {
+                    out.writeInt(offset);
+                }
+            }
+            out.writeLong(indexOffset);
+            out.writeInt(MAGIC);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Number of interactions recorded (record mode) or indexed (replay mode)
+     */
+    public synchronized int size() {
+        if (recorded != null) {
+            return recorded.values().stream().mapToInt(List::size).sum();
+        }
+        return index.values().stream().mapToInt(offsets -> offsets.length).sum();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer, int position) {
+        byte[] bytes = new byte[buffer.getInt(position)];
+        buffer.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * One recorded response
+     */
+    public static final class Interaction {
+        private final int statusCode;
+        private final String statusLine;
+        private final List<Header> headers;
+        private final byte[] body;
+
+        private Interaction(int statusCode, String statusLine, List<Header> headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.statusLine = statusLine;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public static Interaction from(Response response) {
+            return new Interaction(response.getStatusCode(), response.getStatusLine(),
+                    response.getHeaders().asList(), response.asByteArray());
+        }
+
+        /**
+         * Rebuild the response as if it had come from the server
+         */
+        public Response toResponse() {
+            ResponseBuilder builder = new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setStatusLine(statusLine)
+                    .setHeaders(new Headers(headers))
+                    .setBody(body);
+            for (Header header : headers) {
+                if (header.getName().equalsIgnoreCase("Content-Type")) {
+                    builder.setContentType(header.getValue());
+                }
+            }
+            return builder.build();
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeInt(statusCode);
+            writeString(out, statusLine != null ? statusLine : "");
+            out.writeInt(headers.size());
+            for (Header header : headers) {
+                writeString(out, header.getName());
+                writeString(out, header.getValue());
+            }
+            out.writeInt(body.length);
+            out.write(body);
+        }
+
+        private static Interaction read(ByteBuffer buffer, int position) {
+            int statusCode = buffer.getInt(position);
+            position += Integer.BYTES;
+            String statusLine = readString(buffer, position);
+            position += Integer.BYTES + buffer.getInt(position);
+            List<Header> headers = new ArrayList<>(buffer.getInt(position));
+            int headerCount = buffer.getInt(position);
+            position += Integer.BYTES;
+            for (int i = 0; i < headerCount; i++) {
+                String name = readString(buffer, position);
+                position += Integer.BYTES + buffer.getInt(position);
+                String value = readString(buffer, position);
+                position += Integer.BYTES + buffer.getInt(position);
+                headers.add(new Header(name, value));
+            }
+            byte[] body = new byte[buffer.getInt(position)];
+            buffer.get(position + Integer.BYTES, body);
+            return new Interaction(statusCode, statusLine, headers, body);
+        }
+    }
+}
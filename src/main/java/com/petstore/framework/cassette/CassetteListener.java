@@ -0,0 +1,20 @@
+package com.petstore.framework.cassette;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener giving each suite its own cassette (named after the suite) when cassette.mode is not off
+ */
+public class CassetteListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        CassetteManager.getInstance().open(suite.getName());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        CassetteManager.getInstance().close();
+    }
+}
@@ -0,0 +1,148 @@
+package com.petstore.framework.cassette;
+
+import com.petstore.framework.config.TestConfig;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Owns the cassette of the running suite for cassette.mode=record|replay
+ * CassetteListener opens <cassette.dir>/<suite name>.cassette when a suite starts and saves it when it ends;
+ * runs without the listener (e.g. -Dtest=...) use cassette.name and save from a shutdown hook
+ */
+public class CassetteManager {
+    private static final Logger logger = LogManager.getLogger(CassetteManager.class);
+
+    public enum Mode { OFF, RECORD, REPLAY }
+
+    private final Mode mode;
+    private final Path directory;
+    private volatile Cassette cassette;
+    private boolean shutdownHookRegistered;
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private CassetteManager() {
+        TestConfig config = TestConfig.getInstance();
+        this.mode = Mode.valueOf(config.getCassetteMode().toUpperCase());
+        this.directory = Paths.get(config.getCassetteDir());
+    }
+
+    private static class Holder {
+        private static final CassetteManager INSTANCE = new CassetteManager();
+    }
+
+    public static CassetteManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Open the cassette for a suite, saving the previous one first
+     */
+    public synchronized void open(String name) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        close();
+        Path file = directory.resolve(name.replaceAll("[^A-Za-z0-9._-]+", "-") + ".cassette");
+        if (mode == Mode.RECORD) {
+            cassette = Cassette.forRecording(file);
+            logger.info("Recording HTTP interactions to {}", file);
+            return;
+        }
+        if (!Files.exists(file)) {
+            throw new IllegalStateException("No cassette to replay at " + file + "; record one with cassette.mode=record");
+        }
+        try {
+            cassette = Cassette.load(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load cassette " + file, e);
+        }
+        logger.info("Replaying {} HTTP interactions from {}", cassette.size(), file);
+    }
+
+    /**
+     * Save the cassette being recorded (if any) and release it
+     */
+    public synchronized void close() {
+        if (cassette == null) {
+            return;
+        }
+        if (mode == Mode.RECORD) {
+            try {
+                cassette.save();
+                logger.info("Saved {} HTTP interactions to {}", cassette.size(), cassette.getFile());
+            } catch (IOException e) {
+                logger.error("Could not save cassette {}", cassette.getFile(), e);
+            }
+        }
+        cassette = null;
+    }
+
+    private Cassette current() {
+        Cassette current = cassette;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (cassette == null) {
+                open(TestConfig.getInstance().getCassetteName());
+                if (mode == Mode.RECORD && !shutdownHookRegistered) {
+                    Runtime.getRuntime().addShutdownHook(new Thread(this::close, "cassette-save"));
+                    shutdownHookRegistered = true;
+                }
+            }
+            return cassette;
+        }
+    }
+
+    public void record(String key, Response response) {
+        current().record(key, Cassette.Interaction.from(response));
+        recorded.increment();
+    }
+
+    /**
+     * Recorded response for the key; fails when the cassette has none, as the request would otherwise go
+     * unanswered
+     */
+    public Response replay(String key) {
+        Cassette current = current();
+        Cassette.Interaction interaction = current.replay(key);
+        if (interaction == null) {
+            misses.increment();
+            throw new IllegalStateException("No recorded interaction for " + key + " in " + current.getFile()
+                    + "; re-record it with cassette.mode=record");
+        }
+        replayed.increment();
+        return interaction.toResponse();
+    }
+
+    /**
+     * Get cassette counts as report metrics, empty when cassettes are off
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        if (mode == Mode.OFF) {
+            return metrics;
+        }
+        metrics.put("cassette.mode", mode.name().toLowerCase());
+        metrics.put("cassette.recorded", recorded.sum());
+        metrics.put("cassette.replayed", replayed.sum());
+        metrics.put("cassette.misses", misses.sum());
+        return metrics;
+    }
+}
@@ -2,11 +2,20 @@ package com.petstore.framework.config;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Central configuration management for the PetStore API Test Framework
@@ -14,7 +23,6 @@ import java.util.Properties;
  */
 public class TestConfig {
     private static final Logger logger = LogManager.getLogger(TestConfig.class);
-    private static TestConfig instance;
     private Properties properties;
     
     // Default configuration values
@@ -23,15 +31,25 @@ public class TestConfig {
     private static final String DEFAULT_ENVIRONMENT = "local";
     private static final int DEFAULT_TIMEOUT = 30;
     
+    // Execution modes
+    public static final String EXECUTION_MODE_PLATFORM = "platform";
+    public static final String EXECUTION_MODE_VIRTUAL = "virtual";
+    
+    // Logging profiles
+    public static final String LOGGING_PROFILE_DEFAULT = "default";
+    public static final String LOGGING_PROFILE_ASYNC = "async";
+    private static final String ASYNC_LOGGING_CONFIG = "log4j2-async.xml";
+    
     private TestConfig() {
         loadConfiguration();
     }
     
-    public static synchronized TestConfig getInstance() {
-        if (instance == null) {
-            instance = new TestConfig();
-        }
-        return instance;
+    private static class Holder {
+        private static final TestConfig INSTANCE = new TestConfig();
+    }
+    
+    public static TestConfig getInstance() {
+        return Holder.INSTANCE;
     }
     
     private void loadConfiguration() {
@@ -50,6 +68,12 @@ public class TestConfig {
             // Override with system properties
             overrideWithSystemProperties();
             
+            if (properties.getProperty("retry.count") != null) {
+                logger.warn("retry.count is no longer read; set retry.max.attempts (retry.count + 1) instead");
+            }
+            
+            applyLoggingProfile();
+            
             logger.info("Configuration loaded for environment: {}", environment);
             logger.info("Base URL: {}", getBaseUrl());
             
@@ -79,11 +103,32 @@ public class TestConfig {
         }
     }
     
+    /**
+     * Switch log4j to the async high-throughput configuration when logging.profile=async
+     * (an explicit -Dlog4j2.configurationFile always wins)
+     */
+    private void applyLoggingProfile() {
+        if (!LOGGING_PROFILE_ASYNC.equalsIgnoreCase(getLoggingProfile())
+                || System.getProperty("log4j2.configurationFile") != null) {
+            return;
+        }
+        URL asyncConfig = getClass().getClassLoader().getResource(ASYNC_LOGGING_CONFIG);
+        if (asyncConfig == null) {
+            logger.warn("Async logging profile requested but {} is not on the classpath", ASYNC_LOGGING_CONFIG);
+            return;
+        }
+        try {
+            Configurator.reconfigure(asyncConfig.toURI());
+            logger.info("Logging profile: {} ({})", LOGGING_PROFILE_ASYNC, ASYNC_LOGGING_CONFIG);
+        } catch (URISyntaxException e) {
+            logger.warn("Could not apply async logging profile: {}", e.getMessage());
+        }
+    }
+    
     private void setDefaultProperties() {
         properties.setProperty("base.url", DEFAULT_BASE_URL);
         properties.setProperty("environment", DEFAULT_ENVIRONMENT);
         properties.setProperty("timeout", String.valueOf(DEFAULT_TIMEOUT));
-        properties.setProperty("retry.count", "3");
         properties.setProperty("parallel.execution", "true");
         properties.setProperty("thread.count", "4");
     }
@@ -101,8 +146,213 @@ public class TestConfig {
         return Integer.parseInt(properties.getProperty("timeout", String.valueOf(DEFAULT_TIMEOUT)));
     }
     
-    public int getRetryCount() {
-        return Integer.parseInt(properties.getProperty("retry.count", "3"));
+    public boolean isRetryOnFailure() {
+        return Boolean.parseBoolean(properties.getProperty("retry.on.failure", "true"));
+    }
+    
+    public int getRetryMaxAttempts() {
+        return Integer.parseInt(properties.getProperty("retry.max.attempts", "3"));
+    }
+    
+    public long getRetryDelay() {
+        return Long.parseLong(properties.getProperty("retry.delay", "1000"));
+    }
+    
+    public long getRetryMaxDelay() {
+        return Long.parseLong(properties.getProperty("retry.max.delay", "10000"));
+    }
+    
+    public Set<Integer> getRetryStatusCodes() {
+        Set<Integer> codes = new HashSet<>();
+        for (String code : getListProperty("retry.status.codes", "502,503,504")) {
+            codes.add(Integer.parseInt(code));
+        }
+        return codes;
+    }
+    
+    public Set<String> getRetryNonIdempotentEndpoints() {
+        return new HashSet<>(getListProperty("retry.non.idempotent.endpoints", ""));
+    }
+    
+    public int getRetryBudgetPercent() {
+        return Integer.parseInt(properties.getProperty("retry.budget.percent", "10"));
+    }
+    
+    public int getRetryBudgetMinRetries() {
+        return Integer.parseInt(properties.getProperty("retry.budget.min.retries", "10"));
+    }
+    
+    public boolean isRateLimitEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("rate.limit.enabled", "false"));
+    }
+    
+    public double getRateLimitRequestsPerMinute() {
+        return Double.parseDouble(properties.getProperty("rate.limit.requests.per.minute", "60"));
+    }
+    
+    public int getRateLimitBurst() {
+        return Integer.parseInt(properties.getProperty("rate.limit.burst", "1"));
+    }
+    
+    /**
+     * Per-endpoint limits from rate.limit.endpoints ("METHOD /path/template=requestsPerMinute", comma-separated)
+     */
+    public Map<String, Double> getRateLimitEndpoints() {
+        return getEndpointMapProperty("rate.limit.endpoints");
+    }
+    
+    public boolean isCircuitBreakerEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("circuit.breaker.enabled", "true"));
+    }
+    
+    public int getCircuitBreakerFailureRateThreshold() {
+        return Integer.parseInt(properties.getProperty("circuit.breaker.failure.rate.threshold", "50"));
+    }
+    
+    public int getCircuitBreakerSlowCallRateThreshold() {
+        return Integer.parseInt(properties.getProperty("circuit.breaker.slow.call.rate.threshold", "80"));
+    }
+    
+    public long getCircuitBreakerSlowCallDuration() {
+        return Long.parseLong(properties.getProperty("circuit.breaker.slow.call.duration", "10000"));
+    }
+    
+    public int getCircuitBreakerWindowSize() {
+        return Integer.parseInt(properties.getProperty("circuit.breaker.window.size", "20"));
+    }
+    
+    public int getCircuitBreakerMinimumCalls() {
+        return Integer.parseInt(properties.getProperty("circuit.breaker.minimum.calls", "5"));
+    }
+    
+    public long getCircuitBreakerOpenDuration() {
+        return Long.parseLong(properties.getProperty("circuit.breaker.open.duration", "30000"));
+    }
+    
+    public int getCircuitBreakerHalfOpenCalls() {
+        return Integer.parseInt(properties.getProperty("circuit.breaker.half.open.calls", "3"));
+    }
+    
+    public boolean isStubServerEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("stub.server.enabled", "false"));
+    }
+    
+    public int getStubServerPort() {
+        return Integer.parseInt(properties.getProperty("stub.server.port", "0"));
+    }
+    
+    public boolean isFaultInjectionEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("fault.injection.enabled", "false"));
+    }
+    
+    public int getFaultProxyPort() {
+        return Integer.parseInt(properties.getProperty("fault.proxy.port", "0"));
+    }
+    
+    public long getFaultLatency() {
+        return Long.parseLong(properties.getProperty("fault.latency", "0"));
+    }
+    
+    public String getFaultLatencyPercentiles() {
+        return properties.getProperty("fault.latency.percentiles", "");
+    }
+    
+    public double getFaultErrorRate() {
+        return Double.parseDouble(properties.getProperty("fault.error.rate", "0"));
+    }
+    
+    public int getFaultErrorStatus() {
+        return Integer.parseInt(properties.getProperty("fault.error.status", "503"));
+    }
+    
+    /**
+     * Per-endpoint error rates from fault.error.rate.endpoints ("METHOD /path/template=percent", comma-separated)
+     */
+    public Map<String, Double> getFaultErrorRateEndpoints() {
+        return getEndpointMapProperty("fault.error.rate.endpoints");
+    }
+    
+    public double getFaultResetRate() {
+        return Double.parseDouble(properties.getProperty("fault.reset.rate", "0"));
+    }
+    
+    public double getFaultSlowBodyRate() {
+        return Double.parseDouble(properties.getProperty("fault.slow.body.rate", "0"));
+    }
+    
+    public int getFaultSlowBodyBytesPerSecond() {
+        return Integer.parseInt(properties.getProperty("fault.slow.body.bytes.per.second", "1024"));
+    }
+    
+    public double getFaultPartialResponseRate() {
+        return Double.parseDouble(properties.getProperty("fault.partial.response.rate", "0"));
+    }
+    
+    /**
+     * HTTP cassette mode from cassette.mode: off, record or replay
+     */
+    public String getCassetteMode() {
+        return properties.getProperty("cassette.mode", "off").trim();
+    }
+    
+    public String getCassetteDir() {
+        return properties.getProperty("cassette.dir", "src/test/resources/cassettes");
+    }
+    
+    public String getCassetteName() {
+        return properties.getProperty("cassette.name", "default");
+    }
+    
+    public boolean isResponseCacheEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("response.cache.enabled", "false"));
+    }
+    
+    public long getResponseCacheTtl() {
+        return Long.parseLong(properties.getProperty("response.cache.ttl", "30000"));
+    }
+    
+    public int getResponseCacheMaxEntries() {
+        return Integer.parseInt(properties.getProperty("response.cache.max.entries", "1000"));
+    }
+    
+    public boolean isResponseCacheRevalidate() {
+        return Boolean.parseBoolean(properties.getProperty("response.cache.revalidate", "true"));
+    }
+    
+    public List<String> getResponseCacheEndpoints() {
+        return getListProperty("response.cache.endpoints",
+                "/pet/{petId},/store/order/{orderId},/user/{username},/store/inventory");
+    }
+    
+    public boolean isRequestCoalescingEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("request.coalescing.enabled", "true"));
+    }
+    
+    public int getBatchConcurrency() {
+        return Integer.parseInt(properties.getProperty("batch.concurrency", "8"));
+    }
+    
+    public int getBatchUserChunkSize() {
+        return Integer.parseInt(properties.getProperty("batch.user.chunk.size", "100"));
+    }
+    
+    private Map<String, Double> getEndpointMapProperty(String key) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (String entry : getListProperty(key, "")) {
+            int separator = entry.lastIndexOf('=');
+            values.put(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+        }
+        return values;
+    }
+    
+    private List<String> getListProperty(String key, String defaultValue) {
+        List<String> values = new ArrayList<>();
+        for (String value : properties.getProperty(key, defaultValue).split(",")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
     }
     
     public boolean isParallelExecution() {
@@ -113,6 +363,78 @@ public class TestConfig {
         return Integer.parseInt(properties.getProperty("thread.count", "4"));
     }
     
+    public String getExecutionMode() {
+        return properties.getProperty("execution.mode", EXECUTION_MODE_PLATFORM);
+    }
+    
+    public boolean isVirtualThreadExecution() {
+        return EXECUTION_MODE_VIRTUAL.equalsIgnoreCase(getExecutionMode());
+    }
+    
+    public int getConnectionTimeout() {
+        return Integer.parseInt(properties.getProperty("connection.timeout", "10000"));
+    }
+    
+    public int getReadTimeout() {
+        return Integer.parseInt(properties.getProperty("read.timeout", "30000"));
+    }
+    
+    public int getSocketTimeout() {
+        return Integer.parseInt(properties.getProperty("socket.timeout", "60000"));
+    }
+    
+    public int getPoolMaxTotal() {
+        return Integer.parseInt(properties.getProperty("http.pool.max.total", "50"));
+    }
+    
+    public int getPoolMaxPerRoute() {
+        return Integer.parseInt(properties.getProperty("http.pool.max.per.route", "20"));
+    }
+    
+    public long getPoolKeepAlive() {
+        return Long.parseLong(properties.getProperty("http.pool.keepalive", "30000"));
+    }
+    
+    public long getPoolLeaseTimeout() {
+        return Long.parseLong(properties.getProperty("http.pool.lease.timeout", "60000"));
+    }
+    
+    public long getPoolIdleTimeout() {
+        return Long.parseLong(properties.getProperty("http.pool.idle.timeout", "60000"));
+    }
+    
+    public long getPoolEvictionInterval() {
+        return Long.parseLong(properties.getProperty("http.pool.eviction.interval", "5000"));
+    }
+    
+    public String getLoadMode() {
+        return properties.getProperty("load.mode", "closed");
+    }
+    
+    public int getLoadUsers() {
+        return Integer.parseInt(properties.getProperty("load.users", "10"));
+    }
+    
+    public double getLoadArrivalRate() {
+        return Double.parseDouble(properties.getProperty("load.arrival.rate", "20"));
+    }
+    
+    public long getLoadRampUp() {
+        return Long.parseLong(properties.getProperty("load.ramp.up", "10000"));
+    }
+    
+    public long getLoadSteadyState() {
+        return Long.parseLong(properties.getProperty("load.steady.state", "60000"));
+    }
+    
+    public long getLoadRampDown() {
+        return Long.parseLong(properties.getProperty("load.ramp.down", "10000"));
+    }
+    
+    public long getLoadThinkTime() {
+        return Long.parseLong(properties.getProperty("load.think.time", "0"));
+    }
+    
     public String getApiKey() {
         return properties.getProperty("api.key", "");
     }
@@ -154,6 +476,42 @@ public class TestConfig {
         return properties.getProperty("report.path", "target/reports");
     }
     
+    public String getLatencyHistogramLog() {
+        return properties.getProperty("latency.histogram.log", getReportPath() + "/latency-histograms.hlog");
+    }
+    
+    public boolean isAsyncReporting() {
+        return Boolean.parseBoolean(properties.getProperty("reporting.async.enabled", "true"));
+    }
+    
+    public int getReportingQueueCapacity() {
+        return Integer.parseInt(properties.getProperty("reporting.queue.capacity", "8192"));
+    }
+    
+    public String getReportingBackPressure() {
+        return properties.getProperty("reporting.backpressure", "block");
+    }
+    
+    public int getReportingSampleRate() {
+        return Integer.parseInt(properties.getProperty("reporting.sample.rate", "10"));
+    }
+    
+    public String getHttpLoggingMode() {
+        return properties.getProperty("http.logging.mode", "full-on-failure");
+    }
+    
+    public int getHttpLoggingMaxBodyBytes() {
+        return Integer.parseInt(properties.getProperty("http.logging.max.body.bytes", "2048"));
+    }
+    
+    public int getHttpLoggingSampleRate() {
+        return Integer.parseInt(properties.getProperty("http.logging.sample.rate", "100"));
+    }
+    
+    public String getLoggingProfile() {
+        return properties.getProperty("logging.profile", LOGGING_PROFILE_DEFAULT);
+    }
+    
     public String getLogLevel() {
         return properties.getProperty("log.level", "INFO");
     }
@@ -0,0 +1,280 @@
+package com.petstore.framework.core;
+
+import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.metrics.LatencyRecorder;
+import com.petstore.framework.metrics.TimeoutCounter;
+import com.petstore.framework.resilience.CircuitBreaker;
+import com.petstore.framework.resilience.CircuitBreakerOpenException;
+import com.petstore.framework.resilience.CircuitBreakerRegistry;
+import com.petstore.framework.stub.FaultProfile;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+/**
+ * Non-blocking HTTP client manager for asynchronous API calls
+ * Shares base URL (including the stub and fault proxy URLs), default headers and timeouts with RestAssuredManager
+ */
+public class AsyncHttpClientManager {
+    private static final Logger logger = LogManager.getLogger(AsyncHttpClientManager.class);
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final String CONTENT_TYPE_FORM = "application/x-www-form-urlencoded";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private final TestConfig config;
+    private final RestAssuredManager restAssuredManager;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final LatencyRecorder latencyRecorder;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final ResponseCache responseCache;
+
+    private AsyncHttpClientManager() {
+        this.config = TestConfig.getInstance();
+        this.restAssuredManager = RestAssuredManager.getInstance();
+        this.requestTimeout = Duration.ofSeconds(config.getTimeout());
+        this.latencyRecorder = LatencyRecorder.getInstance();
+        this.circuitBreakers = CircuitBreakerRegistry.getInstance();
+        this.responseCache = ResponseCache.getInstance();
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(config.getConnectionTimeout()))
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (config.isVirtualThreadExecution()) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        this.httpClient = builder.build();
+        logger.info("Async HTTP client initialized with base URL: {}", restAssuredManager.getBaseUri());
+    }
+
+    private static class Holder {
+        private static final AsyncHttpClientManager INSTANCE = new AsyncHttpClientManager();
+    }
+
+    public static AsyncHttpClientManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Send GET request; {placeholders} in the path are replaced by the encoded path params
+     */
+    public CompletableFuture<HttpResponse<String>> getAsync(String path, Object... pathParams) {
+        return sendAsync("GET", path, pathParams, "", null, HttpRequest.BodyPublishers.noBody(), false);
+    }
+
+    /**
+     * Send GET request with query parameters
+     */
+    public CompletableFuture<HttpResponse<String>> getAsync(String path, Map<String, String> queryParams) {
+        return sendAsync("GET", path, new Object[0], "?" + encodeParams(queryParams), null,
+                HttpRequest.BodyPublishers.noBody(), false);
+    }
+
+    /**
+     * Send GET request with query parameters, completing once the headers arrive; the body is read from the
+     * returned stream as the server sends it (the caller must close it)
+     */
+    public CompletableFuture<HttpResponse<InputStream>> getStreamAsync(String path, Map<String, String> queryParams) {
+        return sendAsync("GET", path, new Object[0], "?" + encodeParams(queryParams), null,
+                HttpRequest.BodyPublishers.noBody(), false, HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    /**
+     * Send authenticated GET request
+     */
+    public CompletableFuture<HttpResponse<String>> getAuthenticatedAsync(String path, Object... pathParams) {
+        return sendAsync("GET", path, pathParams, "", null, HttpRequest.BodyPublishers.noBody(), true);
+    }
+
+    /**
+     * Send POST request with a UTF-8 encoded JSON body (sent as-is, without re-encoding)
+     */
+    public CompletableFuture<HttpResponse<String>> postJsonAsync(String path, byte[] body, Object... pathParams) {
+        return sendAsync("POST", path, pathParams, "", CONTENT_TYPE_JSON,
+                HttpRequest.BodyPublishers.ofByteArray(body), false);
+    }
+
+    /**
+     * Send PUT request with a UTF-8 encoded JSON body (sent as-is, without re-encoding)
+     */
+    public CompletableFuture<HttpResponse<String>> putJsonAsync(String path, byte[] body, Object... pathParams) {
+        return sendAsync("PUT", path, pathParams, "", CONTENT_TYPE_JSON,
+                HttpRequest.BodyPublishers.ofByteArray(body), false);
+    }
+
+    /**
+     * Send DELETE request
+     */
+    public CompletableFuture<HttpResponse<String>> deleteAsync(String path, Object... pathParams) {
+        return sendAsync("DELETE", path, pathParams, "", null, HttpRequest.BodyPublishers.noBody(), false);
+    }
+
+    /**
+     * Send POST request with form data
+     */
+    public CompletableFuture<HttpResponse<String>> postFormAsync(String path, Map<String, String> formParams,
+                                                                 Object... pathParams) {
+        return sendAsync("POST", path, pathParams, "", CONTENT_TYPE_FORM,
+                HttpRequest.BodyPublishers.ofString(encodeParams(formParams)), false);
+    }
+
+    /**
+     * Send POST request with multipart form data and a single file part
+     */
+    public CompletableFuture<HttpResponse<String>> postMultipartAsync(String path, Map<String, String> formParams,
+                                                                       String fileParam, Path file,
+                                                                       Object... pathParams) {
+        String boundary = "----PetStoreBoundary" + UUID.randomUUID().toString().replace("-", "");
+        byte[] body;
+        try {
+            body = buildMultipartBody(boundary, formParams, fileParam, file);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException("Error reading file: " + file, e));
+        }
+        return sendAsync("POST", path, pathParams, "", "multipart/form-data; boundary=" + boundary,
+                HttpRequest.BodyPublishers.ofByteArray(body), false);
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(String method, String pathTemplate, Object[] pathParams,
+                                                              String query, String contentType,
+                                                              HttpRequest.BodyPublisher body, boolean authenticated) {
+        return sendAsync(method, pathTemplate, pathParams, query, contentType, body, authenticated,
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> sendAsync(String method, String pathTemplate, Object[] pathParams,
+                                                             String query, String contentType,
+                                                             HttpRequest.BodyPublisher body, boolean authenticated,
+                                                             HttpResponse.BodyHandler<T> bodyHandler) {
+        CircuitBreaker breaker = circuitBreakers.getBreaker(method, pathTemplate);
+        if (breaker != null && !breaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new CircuitBreakerOpenException(breaker.getName(), breaker.getState()));
+        }
+        String path = expandPath(pathTemplate, pathParams);
+        String requestId = RequestIdGenerator.nextId();
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(restAssuredManager.getBaseUri() + path + query))
+                .timeout(requestTimeout)
+                .header("Accept", CONTENT_TYPE_JSON)
+                .header("User-Agent", "PetStore-API-Test-Framework/1.0")
+                .header(RequestIdGenerator.HEADER, requestId)
+                .method(method, body);
+
+        if (contentType != null) {
+            builder.header("Content-Type", contentType);
+        }
+
+        FaultProfile faultProfile = FaultProfile.forCurrentTest();
+        if (faultProfile != null) {
+            builder.header(FaultProfile.HEADER, faultProfile.toHeader());
+        }
+
+        String apiKey = config.getApiKey();
+        if (authenticated && apiKey != null && !apiKey.isEmpty()) {
+            builder.header("Authorization", "Bearer " + apiKey);
+        }
+
+        logger.debug("Sending async request: {} {} [{}]", method, path, requestId);
+        long start = System.nanoTime();
+        return httpClient.sendAsync(builder.build(), bodyHandler)
+                .whenComplete((response, error) -> {
+                    long elapsed = System.nanoTime() - start;
+                    int statusCode = response != null ? response.statusCode() : 0;
+                    latencyRecorder.record(method, pathTemplate, statusCode, elapsed, requestId);
+                    if (breaker != null) {
+                        breaker.onResult(error != null || statusCode >= 500, elapsed);
+                    }
+                    if (error != null) {
+                        recordTimeout(error);
+                    }
+                    if (!SAFE_METHODS.contains(method)) {
+                        responseCache.invalidate(method, path, null);
+                    }
+                });
+    }
+
+    private void recordTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpTimeoutException) {
+                TimeoutCounter.getInstance().record(cause instanceof HttpConnectTimeoutException
+                        ? TimeoutCounter.Kind.CONNECT : TimeoutCounter.Kind.DEADLINE);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replace {placeholders} in the path template with the encoded path params, in order
+     */
+    private String expandPath(String pathTemplate, Object[] pathParams) {
+        if (pathParams.length == 0) {
+            return pathTemplate;
+        }
+        StringBuilder path = new StringBuilder(pathTemplate.length() + 16);
+        int param = 0;
+        int index = 0;
+        while (index < pathTemplate.length()) {
+            int open = pathTemplate.indexOf('{', index);
+            int close = open >= 0 ? pathTemplate.indexOf('}', open) : -1;
+            if (open < 0 || close < 0 || param >= pathParams.length) {
+                path.append(pathTemplate, index, pathTemplate.length());
+                break;
+            }
+            path.append(pathTemplate, index, open).append(encodePathSegment(String.valueOf(pathParams[param++])));
+            index = close + 1;
+        }
+        return path.toString();
+    }
+
+    private byte[] buildMultipartBody(String boundary, Map<String, String> formParams,
+                                      String fileParam, Path file) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Map.Entry<String, String> entry : formParams.entrySet()) {
+            out.write(("--" + boundary + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.write(("Content-Disposition: form-data; name=\"" + entry.getKey() + "\"\r\n\r\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            out.write((entry.getValue() + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+        out.write(("--" + boundary + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(("Content-Disposition: form-data; name=\"" + fileParam + "\"; filename=\""
+                + file.getFileName() + "\"\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write("Content-Type: application/octet-stream\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+        out.write(Files.readAllBytes(file));
+        out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    /**
+     * URL-encode a path segment
+     */
+    public static String encodePathSegment(String segment) {
+        return URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private String encodeParams(Map<String, String> params) {
+        StringJoiner joiner = new StringJoiner("&");
+        params.forEach((key, value) -> joiner.add(URLEncoder.encode(key, StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(value != null ? value : "", StandardCharsets.UTF_8)));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.petstore.framework.core;
+
+import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.filters.RequestTimeoutFilter;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.pool.PoolStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared pooled HTTP connection manager for RestAssured
+ * Keeps connections alive across requests, evicts idle ones and exposes pool statistics.
+ * Lives as long as the JVM: the evictor is a daemon thread and pooled sockets close on exit
+ */
+@SuppressWarnings("deprecation")
+public class ConnectionPoolManager {
+    private static final Logger logger = LogManager.getLogger(ConnectionPoolManager.class);
+    private final TestConfig config;
+    private final PoolingClientConnectionManager connectionManager;
+    private final DefaultHttpClient httpClient;
+    private final ScheduledExecutorService idleConnectionEvictor;
+
+    private ConnectionPoolManager() {
+        this.config = TestConfig.getInstance();
+
+        SchemeRegistry schemeRegistry = SchemeRegistryFactory.createDefault();
+        this.connectionManager = new PoolingClientConnectionManager(schemeRegistry);
+        this.connectionManager.setMaxTotal(config.getPoolMaxTotal());
+        this.connectionManager.setDefaultMaxPerRoute(config.getPoolMaxPerRoute());
+
+        this.httpClient = new DefaultHttpClient(connectionManager);
+        this.httpClient.setKeepAliveStrategy(createKeepAliveStrategy(config.getPoolKeepAlive()));
+        this.httpClient.addRequestInterceptor(RequestTimeoutFilter::armDeadline);
+
+        this.idleConnectionEvictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionInterval = config.getPoolEvictionInterval();
+        idleConnectionEvictor.scheduleWithFixedDelay(this::evictIdleConnections,
+                evictionInterval, evictionInterval, TimeUnit.MILLISECONDS);
+
+        logger.info("HTTP connection pool initialized - max total: {}, max per route: {}, keep-alive: {}ms",
+                config.getPoolMaxTotal(), config.getPoolMaxPerRoute(), config.getPoolKeepAlive());
+    }
+
+    private static class Holder {
+        private static final ConnectionPoolManager INSTANCE = new ConnectionPoolManager();
+    }
+
+    public static ConnectionPoolManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Honor the server Keep-Alive header, capped at the configured keep-alive duration
+     */
+    private ConnectionKeepAliveStrategy createKeepAliveStrategy(long maxKeepAlive) {
+        return (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, maxKeepAlive) : maxKeepAlive;
+        };
+    }
+
+    private void evictIdleConnections() {
+        try {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(config.getPoolIdleTimeout(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            logger.warn("Error evicting idle connections: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get the shared pooled HTTP client (used as RestAssured HttpClientFactory)
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Get current pool statistics
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Get pool statistics as report metrics
+     */
+    public Map<String, Object> getPoolMetrics() {
+        PoolStats stats = getPoolStats();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("connectionPool.leased", stats.getLeased());
+        metrics.put("connectionPool.available", stats.getAvailable());
+        metrics.put("connectionPool.pending", stats.getPending());
+        metrics.put("connectionPool.max", stats.getMax());
+        return metrics;
+    }
+}
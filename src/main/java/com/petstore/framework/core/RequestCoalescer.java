@@ -0,0 +1,92 @@
+package com.petstore.framework.core;
+
+import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.stub.FaultProfile;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing of identical idempotent calls
+ * The first caller for a key runs the call; callers arriving while it is in flight wait for it and get the
+ * same result (the same instance, so callers copy what they hand out) or the same exception. Nothing is kept
+ * once the call completes, so a later caller always triggers a fresh call
+ */
+public class RequestCoalescer {
+    private final boolean enabled;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * Standalone coalescer; a disabled one runs every call, e.g. for load runs that must measure each request
+     */
+    public RequestCoalescer(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private static class Holder {
+        private static final RequestCoalescer INSTANCE =
+                new RequestCoalescer(TestConfig.getInstance().isRequestCoalescingEnabled());
+    }
+
+    public static RequestCoalescer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Run the call, or join the identical call already in flight for the key (e.g. "GET /store/inventory")
+     * A checked exception the call rethrows unwrapped (RestAssured does for IO failures) reaches waiters
+     * as the cause of a CompletionException. Calls from a test with injected faults are never coalesced,
+     * so no caller gets another test's faults
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        if (!enabled || FaultProfile.forCurrentTest() != null) {
+            return call.get();
+        }
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            shared.increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+        calls.increment();
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (Throwable t) {
+            // Any throwable, checked ones included, must complete the future or waiters block forever
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Get coalescing counts as report metrics (calls sent vs calls that joined one in flight)
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("coalescing.calls", calls.sum());
+        metrics.put("coalescing.shared", shared.sum());
+        return metrics;
+    }
+}
@@ -0,0 +1,47 @@
+package com.petstore.framework.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Unique, per-thread monotonic request IDs for the X-Request-ID header
+ * Format: {node}-{thread}-{sequence} (base 36), where node is random per JVM; no shared counter
+ * is touched, so generation does not contend across threads
+ */
+public final class RequestIdGenerator {
+    public static final String HEADER = "X-Request-ID";
+    private static final String NODE = Long.toString(ThreadLocalRandom.current().nextLong(36L * 36 * 36 * 36 * 36, 36L * 36 * 36 * 36 * 36 * 36), 36);
+    private static final ThreadLocal<ThreadState> STATE = ThreadLocal.withInitial(ThreadState::new);
+
+    private RequestIdGenerator() {
+    }
+
+    /**
+     * Issue the next ID for the calling thread
+     */
+    public static String nextId() {
+        ThreadState state = STATE.get();
+        String id = state.prefix + Long.toString(++state.sequence, 36);
+        state.lastId = id;
+        return id;
+    }
+
+    /**
+     * Last ID issued on the calling thread (null if none); used to tag reporting of blocking calls
+     */
+    public static String lastIssuedId() {
+        return STATE.get().lastId;
+    }
+
+    /**
+     * Per-JVM node prefix shared by every ID
+     */
+    public static String getNode() {
+        return NODE;
+    }
+
+    private static final class ThreadState {
+        private final String prefix = NODE + "-" + Long.toString(Thread.currentThread().threadId(), 36) + "-";
+        private long sequence;
+        private String lastId;
+    }
+}
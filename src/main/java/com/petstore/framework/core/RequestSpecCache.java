@@ -0,0 +1,135 @@
+package com.petstore.framework.core;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of request specifications merged from the default spec
+ * Keyed by content type, accept type, auth mode and extra headers; a built spec is only ever merged
+ * into new requests, never modified, so one instance is shared by all threads
+ */
+public final class RequestSpecCache {
+    private static final Logger logger = LogManager.getLogger(RequestSpecCache.class);
+    private static final int MAX_ENTRIES = 256;
+
+    private final ConcurrentHashMap<SpecKey, RequestSpecification> specs = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder uncached = new LongAdder();
+    private volatile RequestSpecification baseSpec;
+    private volatile String authorizationHeader;
+
+    public RequestSpecCache(RequestSpecification baseSpec, String apiKey) {
+        reset(baseSpec, apiKey);
+    }
+
+    /**
+     * Get the merged spec for a key, building it on first use
+     * Once the cache is full, new keys (e.g. per-request header values) are built without being cached
+     */
+    public RequestSpecification get(ContentType contentType, ContentType accept, boolean authenticated,
+                                    Map<String, String> headers) {
+        SpecKey key = new SpecKey(contentType, accept, authenticated, headers);
+        RequestSpecification spec = specs.get(key);
+        if (spec != null) {
+            hits.increment();
+            return spec;
+        }
+        if (specs.size() >= MAX_ENTRIES) {
+            uncached.increment();
+            return build(key);
+        }
+        misses.increment();
+        return specs.computeIfAbsent(key, this::build);
+    }
+
+    private RequestSpecification build(SpecKey key) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .addRequestSpecification(baseSpec);
+        if (key.contentType != null) {
+            builder.setContentType(key.contentType);
+        }
+        if (key.accept != null) {
+            builder.setAccept(key.accept);
+        }
+        if (key.authenticated && authorizationHeader != null) {
+            builder.addHeader("Authorization", authorizationHeader);
+        }
+        key.headers.forEach(builder::addHeader);
+        logger.debug("Built request spec: {}", key);
+        return builder.build();
+    }
+
+    /**
+     * Drop cached specs and rebuild from a new base spec (after a configuration reset)
+     */
+    public void reset(RequestSpecification baseSpec, String apiKey) {
+        this.baseSpec = baseSpec;
+        this.authorizationHeader = apiKey != null && !apiKey.isEmpty() ? "Bearer " + apiKey : null;
+        specs.clear();
+    }
+
+    /**
+     * Get cache statistics as report metrics
+     */
+    public Map<String, Object> getMetrics() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum() + uncached.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("requestSpecCache.size", specs.size());
+        metrics.put("requestSpecCache.hits", hitCount);
+        metrics.put("requestSpecCache.misses", misses.sum());
+        metrics.put("requestSpecCache.uncached", uncached.sum());
+        metrics.put("requestSpecCache.hitRate", String.format("%.2f%%", lookups > 0 ? hitCount * 100.0 / lookups : 0.0));
+        return metrics;
+    }
+
+    private static final class SpecKey {
+        private final ContentType contentType;
+        private final ContentType accept;
+        private final boolean authenticated;
+        private final Map<String, String> headers;
+        private final int hash;
+
+        SpecKey(ContentType contentType, ContentType accept, boolean authenticated, Map<String, String> headers) {
+            this.contentType = contentType;
+            this.accept = accept;
+            this.authenticated = authenticated;
+            this.headers = headers.isEmpty() ? Map.of() : new LinkedHashMap<>(headers);
+            this.hash = Objects.hash(contentType, accept, authenticated, this.headers);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SpecKey)) {
+                return false;
+            }
+            SpecKey other = (SpecKey) o;
+            return authenticated == other.authenticated && contentType == other.contentType
+                    && accept == other.accept && headers.equals(other.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "contentType=" + contentType + ", accept=" + accept + ", authenticated=" + authenticated
+                    + ", headers=" + headers.keySet();
+        }
+    }
+}
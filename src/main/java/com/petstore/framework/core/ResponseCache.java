@@ -0,0 +1,247 @@
+package com.petstore.framework.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.serialization.ModelSerializer;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through cache of 200 responses for the idempotent GET endpoints in response.cache.endpoints
+ * Entries are keyed by path and query relative to the base URL, live for response.cache.ttl and are evicted
+ * least-recently-used beyond response.cache.max.entries. An expired entry with an ETag is revalidated with
+ * If-None-Match instead of being refetched. Writes evict the resource they touch: the /pet, /store/order or
+ * /user entry named in the path, or in the body's id/username for collection writes (every entry of the
+ * resource when the body is not available), plus /store/inventory for pet and order writes
+ */
+public class ResponseCache {
+    private static final Logger logger = LogManager.getLogger(ResponseCache.class);
+    private static final String INVENTORY_PATH = "/store/inventory";
+    private static final List<String> RESOURCES = List.of("/pet", "/store/order", "/user");
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final boolean revalidate;
+    private final Set<String> endpoints;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    // Access-ordered, so iteration order is least recently used first
+    private final Map<String, Entry> entries;
+
+    private ResponseCache() {
+        TestConfig config = TestConfig.getInstance();
+        this.enabled = config.isResponseCacheEnabled();
+        this.ttlNanos = config.getResponseCacheTtl() * 1_000_000L;
+        this.maxEntries = config.getResponseCacheMaxEntries();
+        this.revalidate = config.isResponseCacheRevalidate();
+        this.endpoints = Set.copyOf(config.getResponseCacheEndpoints());
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        if (enabled) {
+            logger.info("Response cache enabled for {} (ttl {}ms, max {} entries, revalidate {})", endpoints,
+                    config.getResponseCacheTtl(), maxEntries, revalidate);
+        }
+    }
+
+    private static class Holder {
+        private static final ResponseCache INSTANCE = new ResponseCache();
+    }
+
+    public static ResponseCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isCacheable(String method, String pathTemplate) {
+        return enabled && "GET".equals(method) && endpoints.contains(pathTemplate);
+    }
+
+    /**
+     * Fresh copy of the cached response, or null when there is none or it has expired
+     */
+    public Response getFresh(String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !entry.isFresh()) {
+            return null;
+        }
+        hits.increment();
+        return entry.copy();
+    }
+
+    /**
+     * ETag of an expired entry that can be revalidated, or null
+     */
+    public String getRevalidationTag(String key) {
+        if (!revalidate) {
+            return null;
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        return entry != null ? entry.etag : null;
+    }
+
+    /**
+     * Handle the server's answer to a miss or revalidation; returns the response to hand to the caller
+     */
+    public Response onResponse(String key, Response response) {
+        if (response.getStatusCode() == 304) {
+            Entry entry;
+            synchronized (this) {
+                entry = entries.get(key);
+            }
+            if (entry != null) {
+                revalidated.increment();
+                entry.expiresAtNanos = System.nanoTime() + ttlNanos;
+                return entry.copy();
+            }
+        }
+        misses.increment();
+        if (response.getStatusCode() == 200) {
+            response.asByteArray();
+            Entry entry = new Entry(response, response.getHeader("ETag"), System.nanoTime() + ttlNanos);
+            synchronized (this) {
+                entries.put(key, entry);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Evict the entries a write to the path (relative to the base URL) may have changed
+     *
+     * @param body JSON request body, or null if not available
+     */
+    public void invalidate(String method, String path, byte[] body) {
+        if (!enabled || "GET".equals(method)) {
+            return;
+        }
+        String resource = RESOURCES.stream()
+                .filter(prefix -> path.equals(prefix) || path.startsWith(prefix + "/"))
+                .findFirst().orElse(null);
+        if (resource == null) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        String rest = path.substring(resource.length());
+        if (rest.length() > 1 && !rest.startsWith("/createWith")) {
+            int end = rest.indexOf('/', 1);
+            keys.add(resource + rest.substring(0, end > 0 ? end : rest.length()));
+        } else if (!bodyKeys(resource, body, keys)) {
+            evictPrefix(resource + "/");
+        }
+        if (!resource.equals("/user")) {
+            keys.add(INVENTORY_PATH);
+        }
+        synchronized (this) {
+            for (String key : keys) {
+                if (entries.remove(key) != null) {
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    private boolean bodyKeys(String resource, byte[] body, List<String> keys) {
+        if (body == null || body.length == 0) {
+            return false;
+        }
+        String field = resource.equals("/user") ? "username" : "id";
+        try {
+            JsonNode root = ModelSerializer.getInstance().getObjectMapper().readTree(body);
+            for (JsonNode node : root.isArray() ? root : List.of(root)) {
+                JsonNode value = node.get(field);
+                // Without an id the write creates a new resource, which cannot be cached yet
+                if (value != null && !value.isNull()) {
+                    keys.add(resource + "/" + value.asText());
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private synchronized void evictPrefix(String prefix) {
+        int before = entries.size();
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+        invalidations.add(before - entries.size());
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get cache statistics as report metrics
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        if (!enabled) {
+            return metrics;
+        }
+        long hitCount = hits.sum() + revalidated.sum();
+        long missCount = misses.sum();
+        metrics.put("responseCache.hits", hits.sum());
+        metrics.put("responseCache.revalidated", revalidated.sum());
+        metrics.put("responseCache.misses", missCount);
+        metrics.put("responseCache.hitRatio", hitCount + missCount == 0 ? 0.0
+                : Math.round(hitCount * 1000.0 / (hitCount + missCount)) / 10.0);
+        metrics.put("responseCache.evictions", evictions.sum());
+        metrics.put("responseCache.invalidations", invalidations.sum());
+        synchronized (this) {
+            metrics.put("responseCache.size", entries.size());
+        }
+        return metrics;
+    }
+
+    private static final class Entry {
+        private final Response response;
+        private final String etag;
+        private volatile long expiresAtNanos;
+
+        private Entry(Response response, String etag, long expiresAtNanos) {
+            this.response = response;
+            this.etag = etag;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+
+        private Response copy() {
+            return new ResponseBuilder().clone(response).build();
+        }
+    }
+}
@@ -1,16 +1,33 @@
 package com.petstore.framework.core;
 
+import com.petstore.framework.cassette.CassetteManager;
 import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.filters.ApiLoggingFilter;
+import com.petstore.framework.filters.CassetteFilter;
+import com.petstore.framework.filters.CircuitBreakerFilter;
+import com.petstore.framework.filters.FaultInjectionFilter;
+import com.petstore.framework.filters.LatencyRecordingFilter;
+import com.petstore.framework.filters.RateLimitFilter;
+import com.petstore.framework.filters.RequestTimeoutFilter;
+import com.petstore.framework.filters.RequestIdFilter;
+import com.petstore.framework.filters.ResponseCacheFilter;
+import com.petstore.framework.filters.RetryBudget;
+import com.petstore.framework.filters.RetryFilter;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.filter.log.LogDetail;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.time.TimingFilter;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.params.CoreConnectionPNames;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,53 +36,135 @@ import java.util.Map;
  */
 public class RestAssuredManager {
     private static final Logger logger = LogManager.getLogger(RestAssuredManager.class);
-    private static RestAssuredManager instance;
     private final TestConfig config;
-    private RequestSpecification defaultRequestSpec;
-    private ResponseSpecification defaultResponseSpec;
+    private final ConnectionPoolManager connectionPoolManager;
+    private volatile RequestSpecification defaultRequestSpec;
+    private volatile ResponseSpecification defaultResponseSpec;
+    private RequestSpecCache requestSpecCache;
+    private RetryFilter retryFilter;
+    private RateLimitFilter rateLimitFilter;
+    private volatile String baseUri;
     
     private RestAssuredManager() {
         this.config = TestConfig.getInstance();
+        this.connectionPoolManager = ConnectionPoolManager.getInstance();
+        this.baseUri = config.getBaseUrl();
         initializeRestAssured();
     }
     
-    public static synchronized RestAssuredManager getInstance() {
-        if (instance == null) {
-            instance = new RestAssuredManager();
-        }
-        return instance;
+    private static class Holder {
+        private static final RestAssuredManager INSTANCE = new RestAssuredManager();
+    }
+    
+    public static RestAssuredManager getInstance() {
+        return Holder.INSTANCE;
     }
     
     private void initializeRestAssured() {
-        // Configure RestAssured defaults
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL);
+        // Route every request through the shared keep-alive connection pool
+        RestAssured.config = RestAssuredConfig.config().httpClient(createHttpClientConfig());
+        
+        // Configure RestAssured defaults (request/response logging is done by ApiLoggingFilter)
         RestAssured.useRelaxedHTTPSValidation();
         
         // Set base URI
-        RestAssured.baseURI = config.getBaseUrl();
+        RestAssured.baseURI = baseUri;
         
         // Create default request specification
-        defaultRequestSpec = new RequestSpecBuilder()
-                .setBaseUri(config.getBaseUrl())
+        RequestSpecBuilder specBuilder = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setConfig(RestAssured.config())
                 .setContentType(ContentType.JSON)
                 .setAccept(ContentType.JSON)
                 .addHeader("User-Agent", "PetStore-API-Test-Framework/1.0")
-                .addHeader("X-Request-ID", generateRequestId())
-                .log(LogDetail.ALL)
+                .addFilter(new RequestIdFilter())
+                .addFilter(createApiLoggingFilter());
+        if (ResponseCache.getInstance().isEnabled()) {
+            specBuilder.addFilter(new ResponseCacheFilter());
+        }
+        if (CassetteManager.getInstance().getMode() != CassetteManager.Mode.OFF) {
+            specBuilder.addFilter(new CassetteFilter());
+        }
+        if (config.isFaultInjectionEnabled()) {
+            specBuilder.addFilter(new FaultInjectionFilter());
+        }
+        if (getOrCreateRateLimitFilter() != null) {
+            specBuilder.addFilter(rateLimitFilter);
+        }
+        defaultRequestSpec = specBuilder
+                .addFilter(new RequestTimeoutFilter(config.getTimeout() * 1000L))
+                .addFilter(new LatencyRecordingFilter())
+                .addFilter(new TimingFilter())
+                .addFilter(getOrCreateRetryFilter())
                 .build();
         
-        // Create default response specification
+        // Cache merged specs (form, XML, upload, authenticated, custom headers) built from the default spec
+        if (requestSpecCache == null) {
+            requestSpecCache = new RequestSpecCache(defaultRequestSpec, config.getApiKey());
+        } else {
+            requestSpecCache.reset(defaultRequestSpec, config.getApiKey());
+        }
+        
+        // Create default response specification (response time is enforced by RequestTimeoutFilter)
         defaultResponseSpec = new ResponseSpecBuilder()
                 .expectContentType(ContentType.JSON)
-                .expectResponseTime(org.hamcrest.Matchers.lessThan(config.getTimeout() * 1000L))
-                .log(LogDetail.ALL)
                 .build();
         
-        logger.info("RestAssured initialized with base URL: {}", config.getBaseUrl());
+        logger.info("RestAssured initialized with base URL: {}", baseUri);
     }
     
-    private String generateRequestId() {
-        return "req-" + System.currentTimeMillis() + "-" + Thread.currentThread().getId();
+    /**
+     * Create HTTP client configuration backed by the pooled connection manager
+     */
+    @SuppressWarnings("deprecation")
+    private HttpClientConfig createHttpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .httpClientFactory(connectionPoolManager::getHttpClient)
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, config.getConnectionTimeout())
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, config.getReadTimeout())
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, config.getPoolLeaseTimeout());
+    }
+    
+    /**
+     * Create the request/response logging filter from the http.logging.* settings
+     */
+    private ApiLoggingFilter createApiLoggingFilter() {
+        ApiLoggingFilter.LoggingMode mode = ApiLoggingFilter.LoggingMode.fromConfig(config.getHttpLoggingMode());
+        logger.info("HTTP logging mode: {}, max body bytes: {}, sample rate: 1/{}", mode,
+                config.getHttpLoggingMaxBodyBytes(), config.getHttpLoggingSampleRate());
+        return new ApiLoggingFilter(mode, config.getHttpLoggingMaxBodyBytes(), config.getHttpLoggingSampleRate());
+    }
+    
+    /**
+     * Create the retry filter from the retry.* settings (kept across configuration resets)
+     * Every attempt goes through the circuit breaker, and every retry takes another rate limit permit
+     */
+    private RetryFilter getOrCreateRetryFilter() {
+        if (retryFilter == null) {
+            int maxAttempts = config.isRetryOnFailure() ? config.getRetryMaxAttempts() : 1;
+            retryFilter = new RetryFilter(maxAttempts, config.getRetryDelay(), config.getRetryMaxDelay(),
+                    config.getRetryStatusCodes(), config.getRetryNonIdempotentEndpoints(),
+                    new RetryBudget(config.getRetryBudgetPercent(), config.getRetryBudgetMinRetries()),
+                    rateLimitFilter != null ? List.of(rateLimitFilter) : List.of(),
+                    List.of(new CircuitBreakerFilter()));
+            logger.info("Retry: max attempts: {}, base delay: {}ms, budget: {}%", maxAttempts,
+                    config.getRetryDelay(), config.getRetryBudgetPercent());
+        }
+        return retryFilter;
+    }
+    
+    /**
+     * Create the rate limit filter from the rate.limit.* settings (null when disabled; buckets are kept
+     * across configuration resets)
+     */
+    private RateLimitFilter getOrCreateRateLimitFilter() {
+        if (rateLimitFilter == null && config.isRateLimitEnabled()) {
+            rateLimitFilter = new RateLimitFilter(config.getRateLimitRequestsPerMinute(), config.getRateLimitBurst(),
+                    config.getRateLimitEndpoints());
+            logger.info("Rate limit: {} requests/minute, burst: {}, endpoints: {}",
+                    config.getRateLimitRequestsPerMinute(), config.getRateLimitBurst(), config.getRateLimitEndpoints());
+        }
+        return rateLimitFilter;
     }
     
     /**
@@ -83,62 +182,38 @@ public class RestAssuredManager {
     }
     
     /**
-     * Create authenticated request specification
+     * Get authenticated request specification (cached)
      */
     public RequestSpecification getAuthenticatedRequestSpec() {
-        RequestSpecBuilder builder = new RequestSpecBuilder()
-                .addRequestSpecification(defaultRequestSpec);
-        
-        // Add API key if available
-        String apiKey = config.getApiKey();
-        if (apiKey != null && !apiKey.isEmpty()) {
-            builder.addHeader("Authorization", "Bearer " + apiKey);
-        }
-        
-        return builder.build();
+        return requestSpecCache.get(null, null, true, Map.of());
     }
     
     /**
-     * Create request specification with custom headers
+     * Get request specification with custom headers (cached per header set)
      */
     public RequestSpecification getRequestSpecWithHeaders(Map<String, String> headers) {
-        RequestSpecBuilder builder = new RequestSpecBuilder()
-                .addRequestSpecification(defaultRequestSpec);
-        
-        headers.forEach(builder::addHeader);
-        
-        return builder.build();
+        return requestSpecCache.get(null, null, false, headers);
     }
     
     /**
-     * Create request specification for form data
+     * Get request specification for form data (cached)
      */
     public RequestSpecification getFormDataRequestSpec() {
-        return new RequestSpecBuilder()
-                .addRequestSpecification(defaultRequestSpec)
-                .setContentType(ContentType.URLENC)
-                .build();
+        return requestSpecCache.get(ContentType.URLENC, null, false, Map.of());
     }
     
     /**
-     * Create request specification for XML content
+     * Get request specification for XML content (cached)
      */
     public RequestSpecification getXmlRequestSpec() {
-        return new RequestSpecBuilder()
-                .addRequestSpecification(defaultRequestSpec)
-                .setContentType(ContentType.XML)
-                .setAccept(ContentType.XML)
-                .build();
+        return requestSpecCache.get(ContentType.XML, ContentType.XML, false, Map.of());
     }
     
     /**
-     * Create request specification for file upload
+     * Get request specification for file upload (cached)
      */
     public RequestSpecification getFileUploadRequestSpec() {
-        return new RequestSpecBuilder()
-                .addRequestSpecification(defaultRequestSpec)
-                .setContentType(ContentType.MULTIPART)
-                .build();
+        return requestSpecCache.get(ContentType.MULTIPART, null, false, Map.of());
     }
     
     /**
@@ -146,18 +221,27 @@ public class RestAssuredManager {
      */
     public void resetConfiguration() {
         RestAssured.reset();
+        baseUri = config.getBaseUrl();
         initializeRestAssured();
         logger.info("RestAssured configuration reset");
     }
     
     /**
-     * Set custom base URI
+     * Set custom base URI, rebuilding the default specs so they use it
      */
     public void setBaseUri(String baseUri) {
-        RestAssured.baseURI = baseUri;
+        this.baseUri = baseUri;
+        initializeRestAssured();
         logger.info("Base URI updated to: {}", baseUri);
     }
     
+    /**
+     * Get the base URI the request specs (and the async client) send to
+     */
+    public String getBaseUri() {
+        return baseUri;
+    }
+    
     /**
      * Enable/disable SSL certificate validation
      */
@@ -194,11 +278,39 @@ public class RestAssuredManager {
         logger.info("Proxy configuration cleared");
     }
     
+    /**
+     * Get connection pool statistics (leased/available/pending/max)
+     */
+    public Map<String, Object> getConnectionPoolStats() {
+        return connectionPoolManager.getPoolMetrics();
+    }
+    
+    /**
+     * Get request spec cache statistics (size/hits/misses/hit rate)
+     */
+    public Map<String, Object> getRequestSpecCacheStats() {
+        return requestSpecCache.getMetrics();
+    }
+    
+    /**
+     * Get retry statistics (retries/recovered/exhausted/budget rejections)
+     */
+    public Map<String, Object> getRetryStats() {
+        return retryFilter.getMetrics();
+    }
+    
+    /**
+     * Get rate limiter statistics (permits/throttled/wait time); empty when rate limiting is disabled
+     */
+    public Map<String, Object> getRateLimitStats() {
+        return rateLimitFilter != null ? rateLimitFilter.getMetrics() : Map.of();
+    }
+    
     /**
      * Get current configuration info
      */
     public String getConfigurationInfo() {
-        return String.format("Base URI: %s, Timeout: %d seconds, Environment: %s",
-                RestAssured.baseURI, config.getTimeout(), config.getEnvironment());
+        return String.format("Base URI: %s, Timeout: %d seconds, Environment: %s, Connection Pool: %s",
+                baseUri, config.getTimeout(), config.getEnvironment(), getConnectionPoolStats());
     }
 } 
\ No newline at end of file
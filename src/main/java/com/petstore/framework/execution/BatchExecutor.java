@@ -0,0 +1,74 @@
+package com.petstore.framework.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Runs a blocking service call for each input of a batch on virtual threads, keeping at most
+ * a window of calls in flight; a call that throws fails its own item only
+ */
+public final class BatchExecutor {
+    private static final Logger logger = LogManager.getLogger(BatchExecutor.class);
+
+    private BatchExecutor() {
+    }
+
+    /**
+     * Call the service for every input, at most concurrency at a time
+     *
+     * @param succeeded whether a call's result counts as a success (null results never do)
+     * @return per-item results in input order
+     */
+    public static <I, R> BatchResult<I, R> run(Collection<? extends I> inputs, int concurrency,
+                                               Function<? super I, ? extends R> call, Predicate<? super R> succeeded) {
+        List<I> ordered = new ArrayList<>(inputs);
+        AtomicReferenceArray<BatchResult.Item<I, R>> items = new AtomicReferenceArray<>(ordered.size());
+        Semaphore window = new Semaphore(Math.max(1, concurrency));
+        long startTime = System.currentTimeMillis();
+
+        // Acquiring before submitting bounds the number of live threads as well as the requests in flight
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < ordered.size(); i++) {
+                int index = i;
+                I input = ordered.get(index);
+                window.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        R result = call.apply(input);
+                        items.set(index, result != null && succeeded.test(result)
+                                ? BatchResult.Item.success(input, result)
+                                : BatchResult.Item.failure(input, result));
+                    } catch (Exception e) {
+                        // Exception, not RuntimeException: RestAssured rethrows checked IO exceptions unwrapped
+                        logger.error("Batch call failed for {}: {}", input, e.getMessage());
+                        items.set(index, BatchResult.Item.error(input, e));
+                    } finally {
+                        window.release();
+                    }
+                });
+            }
+        }
+
+        List<BatchResult.Item<I, R>> results = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            BatchResult.Item<I, R> item = items.get(i);
+            // Every exception is stored on its item, so only an Error escaping the call leaves no item behind
+            results.add(item != null ? item : BatchResult.Item.error(ordered.get(i),
+                    new IllegalStateException("Batch call did not complete")));
+        }
+        BatchResult<I, R> batch = new BatchResult<>(results);
+        logger.info("Batch of {} completed in {}ms with concurrency {}: {} failed", batch.size(),
+                System.currentTimeMillis() - startTime, concurrency, batch.failureCount());
+        return batch;
+    }
+}
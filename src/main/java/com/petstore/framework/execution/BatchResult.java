@@ -0,0 +1,103 @@
+package com.petstore.framework.execution;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Per-item outcome of a batch call, in the order the inputs were given
+ */
+public class BatchResult<I, R> {
+    private final List<Item<I, R>> items;
+
+    public BatchResult(List<Item<I, R>> items) {
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    public List<Item<I, R>> getItems() {
+        return items;
+    }
+
+    /**
+     * Results of the successful items
+     */
+    public List<R> getResults() {
+        return items.stream().filter(Item::isSuccess).map(Item::getResult).toList();
+    }
+
+    public List<Item<I, R>> getFailures() {
+        return items.stream().filter(item -> !item.isSuccess()).toList();
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public long successCount() {
+        return items.stream().filter(Item::isSuccess).count();
+    }
+
+    public long failureCount() {
+        return size() - successCount();
+    }
+
+    public boolean allSucceeded() {
+        return items.stream().allMatch(Item::isSuccess);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{size=" + size() + ", failures=" + failureCount() + "}";
+    }
+
+    /**
+     * One input with the service call's result (null or unsuccessful on failure) or the exception it threw
+     */
+    public static final class Item<I, R> {
+        private final I input;
+        private final R result;
+        private final Exception error;
+        private final boolean success;
+
+        private Item(I input, R result, Exception error, boolean success) {
+            this.input = input;
+            this.result = result;
+            this.error = error;
+            this.success = success;
+        }
+
+        public static <I, R> Item<I, R> success(I input, R result) {
+            return new Item<>(input, result, null, true);
+        }
+
+        public static <I, R> Item<I, R> failure(I input, R result) {
+            return new Item<>(input, result, null, false);
+        }
+
+        public static <I, R> Item<I, R> error(I input, Exception error) {
+            return new Item<>(input, null, Objects.requireNonNull(error), false);
+        }
+
+        public I getInput() {
+            return input;
+        }
+
+        public R getResult() {
+            return result;
+        }
+
+        public Exception getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        @Override
+        public String toString() {
+            return "Item{input=" + input + ", success=" + success
+                    + (error != null ? ", error=" + error : "") + "}";
+        }
+    }
+}
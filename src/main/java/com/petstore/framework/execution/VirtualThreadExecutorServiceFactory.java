@@ -0,0 +1,27 @@
+package com.petstore.framework.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IExecutorServiceFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs parallel test methods on virtual threads
+ * Pool sizes requested by TestNG are ignored: every task gets its own virtual thread. Parallel
+ * data-provider rows are not covered; TestNG keeps them on its own data-provider-thread-count pool
+ */
+public class VirtualThreadExecutorServiceFactory implements IExecutorServiceFactory {
+    private static final Logger logger = LogManager.getLogger(VirtualThreadExecutorServiceFactory.class);
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        logger.debug("Creating virtual thread executor (requested pool size: {})", maximumPoolSize);
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("petstore-vt-", 0).factory());
+    }
+}
@@ -0,0 +1,39 @@
+package com.petstore.framework.execution;
+
+import com.petstore.framework.config.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.TestNG;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TestNG launcher for the virtual-thread execution mode
+ * Usage: mvn test -Pvirtual-threads [-Dtestng.suite=testng.xml]
+ */
+public class VirtualThreadTestRunner {
+    private static final Logger logger = LogManager.getLogger(VirtualThreadTestRunner.class);
+    private static final String DEFAULT_SUITE = "testng.xml";
+
+    public static void main(String[] args) {
+        System.exit(run(args.length > 0 ? Arrays.asList(args) : List.of(DEFAULT_SUITE)));
+    }
+
+    /**
+     * Run the given TestNG suite files on virtual threads and return the TestNG exit status
+     */
+    public static int run(List<String> suiteFiles) {
+        System.setProperty("petstore.execution.mode", TestConfig.EXECUTION_MODE_VIRTUAL);
+        TestConfig.getInstance().setProperty("execution.mode", TestConfig.EXECUTION_MODE_VIRTUAL);
+
+        TestNG testng = new TestNG();
+        testng.setExecutorServiceFactory(new VirtualThreadExecutorServiceFactory());
+        testng.setTestSuites(suiteFiles);
+
+        logger.info("Running suites on virtual threads: {}", suiteFiles);
+        testng.run();
+        logger.info("Virtual thread suite run finished with status: {}", testng.getStatus());
+        return testng.getStatus();
+    }
+}
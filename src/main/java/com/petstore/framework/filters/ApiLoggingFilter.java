@@ -0,0 +1,159 @@
+package com.petstore.framework.filters;
+
+import com.petstore.framework.core.RequestIdGenerator;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RestAssured filter logging requests and responses to the API log (ApiLogger)
+ * Replaces RestAssured's LogDetail.ALL logging; how much is formatted per call depends on the mode,
+ * and logged bodies are truncated to a configurable number of bytes
+ */
+public class ApiLoggingFilter implements Filter {
+    private static final Logger apiLogger = LogManager.getLogger("ApiLogger");
+    private static final String REDACTED = "[REDACTED]";
+
+    /**
+     * OFF logs nothing, HEADERS logs request/response lines and headers for every call,
+     * SAMPLED_BODIES adds bodies to 1-in-N calls, FULL_ON_FAILURE logs everything but only for calls
+     * that fail (status 400 or above, or no response)
+     */
+    public enum LoggingMode {
+        OFF, HEADERS, SAMPLED_BODIES, FULL_ON_FAILURE;
+
+        /**
+         * Parse a configured mode, e.g. "sampled-bodies"
+         */
+        public static LoggingMode fromConfig(String value) {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    private final LoggingMode mode;
+    private final int maxBodyBytes;
+    private final int sampleRate;
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    /**
+     * @param maxBodyBytes bodies longer than this are truncated (0 or less logs them in full)
+     * @param sampleRate   log bodies for 1 in this many calls in SAMPLED_BODIES mode
+     */
+    public ApiLoggingFilter(LoggingMode mode, int maxBodyBytes, int sampleRate) {
+        this.mode = mode;
+        this.maxBodyBytes = maxBodyBytes;
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        if (mode == LoggingMode.OFF || !apiLogger.isInfoEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Throwable t) {
+            // RestAssured rethrows checked IO exceptions (refused connects, socket timeouts) unwrapped
+            apiLogger.info(format(requestSpec, null, mode != LoggingMode.HEADERS, System.nanoTime() - start)
+                    + "\nFailed: " + t);
+            throw t;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        switch (mode) {
+            case HEADERS -> apiLogger.info(format(requestSpec, response, false, elapsedNanos));
+            case SAMPLED_BODIES -> apiLogger.info(format(requestSpec, response,
+                    sampleCounter.incrementAndGet() % sampleRate == 0, elapsedNanos));
+            case FULL_ON_FAILURE -> {
+                if (response.getStatusCode() >= 400) {
+                    apiLogger.info(format(requestSpec, response, true, elapsedNanos));
+                }
+            }
+            default -> {
+            }
+        }
+        return response;
+    }
+
+    private String format(FilterableRequestSpecification requestSpec, Response response, boolean withBodies,
+                          long elapsedNanos) {
+        StringBuilder out = new StringBuilder(512);
+        out.append(requestSpec.getMethod()).append(' ').append(requestSpec.getURI())
+                .append(" [").append(requestSpec.getHeaders().getValue(RequestIdGenerator.HEADER)).append("]\n");
+        appendHeaders(out, requestSpec.getHeaders());
+        if (withBodies) {
+            appendRequestBody(out, requestSpec);
+        }
+        if (response != null) {
+            out.append(response.getStatusLine()).append(" (")
+                    .append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append(" ms)\n");
+            appendHeaders(out, response.getHeaders());
+            if (withBodies) {
+                appendBody(out, response.asByteArray());
+            }
+        }
+        out.setLength(out.length() - 1);
+        return out.toString();
+    }
+
+    private static void appendHeaders(StringBuilder out, Headers headers) {
+        for (Header header : headers) {
+            out.append("  ").append(header.getName()).append(": ")
+                    .append("Authorization".equalsIgnoreCase(header.getName()) ? REDACTED : header.getValue())
+                    .append('\n');
+        }
+    }
+
+    private void appendRequestBody(StringBuilder out, FilterableRequestSpecification requestSpec) {
+        if (!requestSpec.getMultiPartParams().isEmpty()) {
+            out.append("  [multipart body, ").append(requestSpec.getMultiPartParams().size()).append(" parts]\n");
+        } else if (!requestSpec.getFormParams().isEmpty()) {
+            appendBody(out, requestSpec.getFormParams().toString());
+        } else {
+            Object body = requestSpec.getBody();
+            if (body instanceof byte[] bytes) {
+                appendBody(out, bytes);
+            } else if (body != null) {
+                appendBody(out, body.toString());
+            }
+        }
+    }
+
+    private void appendBody(StringBuilder out, byte[] body) {
+        if (body == null || body.length == 0) {
+            return;
+        }
+        boolean truncated = maxBodyBytes > 0 && body.length > maxBodyBytes;
+        out.append("  ").append(new String(body, 0, truncated ? maxBodyBytes : body.length, StandardCharsets.UTF_8));
+        appendTruncation(out, truncated, body.length);
+    }
+
+    private void appendBody(StringBuilder out, String body) {
+        if (body.isEmpty()) {
+            return;
+        }
+        // Character count stands in for byte count so text bodies are not encoded just to be cut
+        boolean truncated = maxBodyBytes > 0 && body.length() > maxBodyBytes;
+        out.append("  ").append(body, 0, truncated ? maxBodyBytes : body.length());
+        appendTruncation(out, truncated, body.length());
+    }
+
+    private static void appendTruncation(StringBuilder out, boolean truncated, int length) {
+        if (truncated) {
+            out.append("... [truncated, ").append(length).append(" total]");
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,64 @@
+package com.petstore.framework.filters;
+
+import com.petstore.framework.cassette.CassetteManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.MultiPartSpecification;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * RestAssured filter recording responses to, or replaying them from, the suite's cassette
+ * Requests are keyed by method, path and query (host-independent, so a cassette recorded against the stub
+ * replays for any base.url), form and multipart field names, and a CRC32 of the body. Replay answers without
+ * running the rest of the chain, so rate limits, retries, timeouts and the network are all skipped
+ */
+public class CassetteFilter implements Filter {
+    private final CassetteManager cassettes = CassetteManager.getInstance();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String key = key(requestSpec);
+        if (cassettes.getMode() == CassetteManager.Mode.REPLAY) {
+            return cassettes.replay(key);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (cassettes.getMode() == CassetteManager.Mode.RECORD) {
+            cassettes.record(key, response);
+        }
+        return response;
+    }
+
+    static String key(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ').append(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            key.append('?').append(uri.getRawQuery());
+        }
+        if (!requestSpec.getFormParams().isEmpty()) {
+            key.append(" form").append(new TreeMap<>(requestSpec.getFormParams()));
+        }
+        if (!requestSpec.getMultiPartParams().isEmpty()) {
+            StringJoiner names = new StringJoiner(",", " multipart[", "]");
+            for (MultiPartSpecification part : requestSpec.getMultiPartParams()) {
+                names.add(part.getControlName());
+            }
+            key.append(names);
+        }
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            CRC32 crc = new CRC32();
+            crc.update(body instanceof byte[] bytes ? bytes : body.toString().getBytes(StandardCharsets.UTF_8));
+            key.append(" #").append(Long.toHexString(crc.getValue()));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.petstore.framework.filters;
+
+import com.petstore.framework.resilience.CircuitBreaker;
+import com.petstore.framework.resilience.CircuitBreakerOpenException;
+import com.petstore.framework.resilience.CircuitBreakerRegistry;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.function.BiFunction;
+
+/**
+ * RestAssured filter guarding every endpoint with its circuit breaker
+ * Exceptions and 5xx responses count as failures; while the circuit is open the call fails immediately with
+ * CircuitBreakerOpenException instead of waiting for the request timeout. Runs inside RetryFilter as an
+ * attempt filter, after any rate limit permit, so every attempt is judged and an open circuit stops retries
+ */
+public class CircuitBreakerFilter implements Filter {
+    private final BiFunction<String, String, CircuitBreaker> breakers;
+
+    public CircuitBreakerFilter() {
+        this(CircuitBreakerRegistry.getInstance()::getBreaker);
+    }
+
+    /**
+     * @param breakers breaker for a method and path template, or null to send the call unguarded
+     */
+    public CircuitBreakerFilter(BiFunction<String, String, CircuitBreaker> breakers) {
+        this.breakers = breakers;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        CircuitBreaker breaker = breakers.apply(requestSpec.getMethod(),
+                LatencyRecordingFilter.pathTemplate(requestSpec));
+        if (breaker == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        if (!breaker.tryAcquire()) {
+            throw new CircuitBreakerOpenException(breaker.getName(), breaker.getState());
+        }
+        long start = System.nanoTime();
+        // Recorded in finally: RestAssured rethrows checked IO exceptions (refused connects, socket
+        // timeouts) unwrapped, and a half-open trial call must always report back
+        boolean failed = true;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            failed = response.getStatusCode() >= 500;
+            return response;
+        } finally {
+            breaker.onResult(failed, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.petstore.framework.filters;
+
+import com.petstore.framework.stub.FaultProfile;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter sending the current test's @InjectFaults profile to the fault injection proxy
+ * Requests of tests without the annotation carry no header and get the proxy's fault.* defaults
+ */
+public class FaultInjectionFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        FaultProfile profile = FaultProfile.forCurrentTest();
+        if (profile != null) {
+            requestSpec.replaceHeader(FaultProfile.HEADER, profile.toHeader());
+        }
+        return ctx.next(requestSpec, responseSpec);
+    }
+}
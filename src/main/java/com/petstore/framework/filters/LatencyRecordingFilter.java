@@ -0,0 +1,46 @@
+package com.petstore.framework.filters;
+
+import com.petstore.framework.core.RequestIdGenerator;
+import com.petstore.framework.metrics.LatencyRecorder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter feeding every request into the LatencyRecorder
+ * Keys on the unresolved path template (e.g. /pet/{petId}) so ids do not explode the key space;
+ * the X-Request-ID stamped by RequestIdFilter is kept as the exemplar for the slowest call
+ */
+public class LatencyRecordingFilter implements Filter {
+    private final LatencyRecorder latencyRecorder = LatencyRecorder.getInstance();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String pathTemplate = pathTemplate(requestSpec);
+        String requestId = requestSpec.getHeaders().getValue(RequestIdGenerator.HEADER);
+        long start = System.nanoTime();
+        // Recorded in finally: RestAssured rethrows checked IO exceptions (refused connects, socket
+        // timeouts) unwrapped, so a catch clause would miss the failures that matter most
+        int statusCode = 0;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            statusCode = response.getStatusCode();
+            return response;
+        } finally {
+            latencyRecorder.record(requestSpec.getMethod(), pathTemplate, statusCode, System.nanoTime() - start,
+                    requestId);
+        }
+    }
+
+    static String pathTemplate(FilterableRequestSpecification requestSpec) {
+        String path = requestSpec.getUserDefinedPath();
+        if (path == null || path.isEmpty()) {
+            path = requestSpec.getDerivedPath();
+        }
+        int query = path.indexOf('?');
+        return query >= 0 ? path.substring(0, query) : path;
+    }
+}
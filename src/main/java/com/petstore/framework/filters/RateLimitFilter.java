@@ -0,0 +1,96 @@
+package com.petstore.framework.filters;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RestAssured filter throttling requests to a global rate and optional per-endpoint rates
+ * Buckets are shared by every thread using the spec; endpoints are keyed "METHOD /path/template".
+ * Placed before LatencyRecordingFilter so time spent waiting for a permit is not counted as latency
+ */
+public class RateLimitFilter implements Filter {
+    private static final Logger logger = LogManager.getLogger(RateLimitFilter.class);
+
+    private final TokenBucket globalBucket;
+    private final Map<String, TokenBucket> endpointBuckets = new LinkedHashMap<>();
+    private final Map<String, LongAdder> endpointWaitNanos = new LinkedHashMap<>();
+    private final LongAdder permits = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param requestsPerMinute global rate (0 or less for no global limit)
+     * @param endpointLimits    per-endpoint rates keyed "METHOD /path/template"
+     */
+    public RateLimitFilter(double requestsPerMinute, int burst, Map<String, Double> endpointLimits) {
+        this.globalBucket = requestsPerMinute > 0 ? new TokenBucket(requestsPerMinute, burst) : null;
+        endpointLimits.forEach((endpoint, rate) -> {
+            endpointBuckets.put(endpoint, new TokenBucket(rate, burst));
+            endpointWaitNanos.put(endpoint, new LongAdder());
+        });
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long waited = 0;
+        if (!endpointBuckets.isEmpty()) {
+            String endpoint = requestSpec.getMethod() + " " + LatencyRecordingFilter.pathTemplate(requestSpec);
+            TokenBucket endpointBucket = endpointBuckets.get(endpoint);
+            if (endpointBucket != null) {
+                long endpointWait = await(endpointBucket.reserve());
+                endpointWaitNanos.get(endpoint).add(endpointWait);
+                waited += endpointWait;
+            }
+        }
+        if (globalBucket != null) {
+            waited += await(globalBucket.reserve());
+        }
+        permits.increment();
+        if (waited > 0) {
+            throttled.increment();
+            waitNanos.add(waited);
+            maxWaitNanos.accumulate(waited);
+        }
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+    private static long await(long nanos) {
+        if (nanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while waiting for a rate limit permit");
+            }
+        }
+        return nanos;
+    }
+
+    /**
+     * Get rate limiter statistics as report metrics (permits, throttled calls and time spent waiting)
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("rateLimit.permits", permits.sum());
+        metrics.put("rateLimit.throttled", throttled.sum());
+        metrics.put("rateLimit.waitMs", TimeUnit.NANOSECONDS.toMillis(waitNanos.sum()));
+        metrics.put("rateLimit.maxWaitMs", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+        new TreeMap<>(endpointWaitNanos).forEach((endpoint, nanos) ->
+                metrics.put("rateLimit." + endpoint + ".waitMs", TimeUnit.NANOSECONDS.toMillis(nanos.sum())));
+        return metrics;
+    }
+}
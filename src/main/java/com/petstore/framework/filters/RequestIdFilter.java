@@ -0,0 +1,36 @@
+package com.petstore.framework.filters;
+
+import com.petstore.framework.core.RequestIdGenerator;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.ThreadContext;
+
+/**
+ * RestAssured filter stamping a fresh X-Request-ID on every request
+ * The ID is also exposed as "requestId" in the log4j ThreadContext while the request is in flight,
+ * so client-side log lines can be joined with server logs
+ */
+public class RequestIdFilter implements Filter {
+    public static final String CONTEXT_KEY = "requestId";
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String requestId = RequestIdGenerator.nextId();
+        requestSpec.replaceHeader(RequestIdGenerator.HEADER, requestId);
+        String previous = ThreadContext.get(CONTEXT_KEY);
+        ThreadContext.put(CONTEXT_KEY, requestId);
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            if (previous != null) {
+                ThreadContext.put(CONTEXT_KEY, previous);
+            } else {
+                ThreadContext.remove(CONTEXT_KEY);
+            }
+        }
+    }
+}
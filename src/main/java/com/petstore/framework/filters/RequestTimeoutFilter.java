@@ -0,0 +1,182 @@
+package com.petstore.framework.filters;
+
+import com.petstore.framework.metrics.TimeoutCounter;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpRequest;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RestAssured filter enforcing a total deadline on each call, including its retries
+ * Connect and pool timeouts are HttpClient params; the read timeout only bounds socket inactivity, so a server
+ * trickling bytes could hold a thread forever. The deadline is opened here and applied by armDeadline, an
+ * HttpClient request interceptor: it caps the socket read timeout at the time left and shuts the connection
+ * down once the deadline passes. Every timeout is counted in TimeoutCounter by kind
+ */
+public class RequestTimeoutFilter implements Filter {
+    private static final Logger logger = LogManager.getLogger(RequestTimeoutFilter.class);
+    private static final ThreadLocal<Long> OVERRIDE_MILLIS = new ThreadLocal<>();
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    private static final ScheduledThreadPoolExecutor ABORT_SCHEDULER = createScheduler();
+
+    private final long timeoutMillis;
+    private final TimeoutCounter timeoutCounter = TimeoutCounter.getInstance();
+
+    /**
+     * @param timeoutMillis total time allowed per call, from the first attempt to the end of the last one
+     */
+    public RequestTimeoutFilter(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "http-deadline-abort");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Filter replacing the configured total timeout for the calls it is added to; must be added to the request
+     * before the default spec so it runs ahead of the RequestTimeoutFilter
+     */
+    public static Filter withTimeout(Duration timeout) {
+        long overrideMillis = timeout.toMillis();
+        return (requestSpec, responseSpec, ctx) -> {
+            Long previous = OVERRIDE_MILLIS.get();
+            OVERRIDE_MILLIS.set(overrideMillis);
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                OVERRIDE_MILLIS.set(previous);
+            }
+        };
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        Long overrideMillis = OVERRIDE_MILLIS.get();
+        long callTimeoutMillis = overrideMillis != null ? overrideMillis : timeoutMillis;
+        Deadline deadline = new Deadline(callTimeoutMillis);
+        CURRENT.set(deadline);
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            // RestAssured reads the body lazily after the filter chain returns; buffer it within the deadline
+            response.asByteArray();
+            return response;
+        } catch (Exception e) {
+            if (deadline.isPassed()) {
+                timeoutCounter.record(TimeoutCounter.Kind.DEADLINE);
+                logger.warn("{} {} exceeded its {}ms deadline", requestSpec.getMethod(), requestSpec.getURI(),
+                        callTimeoutMillis);
+                throw new UncheckedIOException(new SocketTimeoutException(
+                        "Request exceeded its " + callTimeoutMillis + "ms deadline"));
+            }
+            recordTimeout(e);
+            throw e;
+        } finally {
+            deadline.disarm();
+            CURRENT.remove();
+        }
+    }
+
+    private void recordTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectionPoolTimeoutException) {
+                timeoutCounter.record(TimeoutCounter.Kind.POOL);
+                return;
+            }
+            if (cause instanceof ConnectTimeoutException) {
+                timeoutCounter.record(TimeoutCounter.Kind.CONNECT);
+                return;
+            }
+            if (cause instanceof SocketTimeoutException) {
+                timeoutCounter.record(TimeoutCounter.Kind.READ);
+                return;
+            }
+        }
+    }
+
+    /**
+     * HttpRequestInterceptor applying the current call's deadline to the connection about to send it
+     */
+    public static void armDeadline(HttpRequest request, HttpContext context) throws IOException {
+        Deadline deadline = CURRENT.get();
+        HttpConnection connection = (HttpConnection) context.getAttribute(HttpCoreContext.HTTP_CONNECTION);
+        if (deadline != null && connection != null) {
+            deadline.arm(connection);
+        }
+    }
+
+    private static final class Deadline {
+        private final long deadlineNanos;
+        private volatile boolean expired;
+        private boolean readTimeoutCapped;
+        private ScheduledFuture<?> abort;
+
+        private Deadline(long timeoutMillis) {
+            this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        }
+
+        /**
+         * Cap the read timeout at the time left and schedule the connection shutdown (re-armed per attempt)
+         */
+        private void arm(HttpConnection connection) throws SocketTimeoutException {
+            disarm();
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0) {
+                expired = true;
+                throw new SocketTimeoutException("Deadline passed before the request was sent");
+            }
+            int remainingMillis = (int) Math.min(Integer.MAX_VALUE, Math.max(1, remainingNanos / 1_000_000));
+            int readTimeout = connection.getSocketTimeout();
+            readTimeoutCapped = readTimeout <= 0 || readTimeout > remainingMillis;
+            if (readTimeoutCapped) {
+                connection.setSocketTimeout(remainingMillis);
+            }
+            abort = ABORT_SCHEDULER.schedule(() -> {
+                expired = true;
+                try {
+                    connection.shutdown();
+                } catch (IOException e) {
+                    logger.debug("Error shutting down connection past its deadline: {}", e.getMessage());
+                }
+            }, remainingNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * True once the abort fired or the read timeout capped at the deadline ran out
+         */
+        private boolean isPassed() {
+            return expired || (readTimeoutCapped && System.nanoTime() - deadlineNanos >= 0);
+        }
+
+        private void disarm() {
+            if (abort != null) {
+                abort.cancel(false);
+                abort = null;
+            }
+        }
+    }
+}
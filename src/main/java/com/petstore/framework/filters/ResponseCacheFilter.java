@@ -0,0 +1,68 @@
+package com.petstore.framework.filters;
+
+import com.petstore.framework.core.ResponseCache;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RestAssured filter serving cacheable GETs from the ResponseCache and evicting entries on writes
+ * A fresh hit answers without running the rest of the chain; an expired entry with an ETag is sent on with
+ * If-None-Match and a 304 is answered from the cache
+ */
+public class ResponseCacheFilter implements Filter {
+    private final ResponseCache cache = ResponseCache.getInstance();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String key = relativePath(requestSpec);
+        if (!cache.isCacheable(method, LatencyRecordingFilter.pathTemplate(requestSpec))) {
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                int query = key.indexOf('?');
+                cache.invalidate(method, query >= 0 ? key.substring(0, query) : key, bodyBytes(requestSpec));
+            }
+        }
+        Response cached = cache.getFresh(key);
+        if (cached != null) {
+            return cached;
+        }
+        String etag = cache.getRevalidationTag(key);
+        if (etag != null) {
+            requestSpec.replaceHeader("If-None-Match", etag);
+        }
+        return cache.onResponse(key, ctx.next(requestSpec, responseSpec));
+    }
+
+    /**
+     * Path and query of the request relative to the base URI, e.g. /pet/42
+     */
+    private static String relativePath(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        String basePath = URI.create(requestSpec.getBaseUri()).getRawPath() + requestSpec.getBasePath();
+        String path = uri.getRawPath();
+        if (basePath.endsWith("/")) {
+            basePath = basePath.substring(0, basePath.length() - 1);
+        }
+        if (path.startsWith(basePath)) {
+            path = path.substring(basePath.length());
+        }
+        return uri.getRawQuery() != null ? path + "?" + uri.getRawQuery() : path;
+    }
+
+    private static byte[] bodyBytes(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return null;
+        }
+        return body instanceof byte[] bytes ? bytes : body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
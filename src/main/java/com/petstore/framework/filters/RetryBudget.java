@@ -0,0 +1,58 @@
+package com.petstore.framework.filters;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps retries at a percentage of the requests seen in a fixed time window
+ * A minimum number of retries per window is always allowed so low-traffic runs can still retry;
+ * under a sustained outage retries stop once the window's share is used, instead of multiplying load
+ */
+public class RetryBudget {
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final int percent;
+    private final int minRetriesPerWindow;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    public RetryBudget(int percent, int minRetriesPerWindow) {
+        this.percent = Math.max(0, percent);
+        this.minRetriesPerWindow = Math.max(0, minRetriesPerWindow);
+    }
+
+    /**
+     * Count an original (non-retry) request
+     */
+    public void onRequest() {
+        rollWindow();
+        requests.incrementAndGet();
+    }
+
+    /**
+     * Try to take one retry from the budget
+     */
+    public boolean tryAcquireRetry() {
+        rollWindow();
+        long allowed = Math.max(minRetriesPerWindow, requests.get() * percent / 100);
+        while (true) {
+            long used = retries.get();
+            if (used >= allowed) {
+                return false;
+            }
+            if (retries.compareAndSet(used, used + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void rollWindow() {
+        long start = windowStart.get();
+        long now = System.nanoTime();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            requests.set(0);
+            retries.set(0);
+        }
+    }
+}
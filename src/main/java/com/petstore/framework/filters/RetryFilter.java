@@ -0,0 +1,239 @@
+package com.petstore.framework.filters;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.internal.filter.SendRequestFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSender;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.ConnectException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * RestAssured filter retrying transient failures with exponential backoff and full jitter
+ * Connect failures (request never sent) are retried for any method; retryable statuses and dropped
+ * responses only for idempotent methods, or POST/PATCH endpoints opted in as "METHOD /path/template".
+ * Every retry needs a token from the shared RetryBudget. Must be the last filter, preceded by an explicit
+ * TimingFilter: the filter context cannot be rewound, so retries go straight to RestAssured's SendRequestFilter.
+ * Filters that must see each attempt (circuit breaker) run inside this one, and retries also pass the
+ * retry filters (rate limit) that the first attempt already went through earlier in the chain
+ */
+public class RetryFilter implements Filter {
+    private static final Logger logger = LogManager.getLogger(RetryFilter.class);
+    private static final Filter SEND_REQUEST = new SendRequestFilter();
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE");
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Set<Integer> retryStatusCodes;
+    private final Set<String> nonIdempotentOptIn;
+    private final RetryBudget budget;
+    private final List<Filter> retryFilters;
+    private final List<Filter> attemptFilters;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder budgetRejected = new LongAdder();
+    private final LongAdder nonIdempotentSkipped = new LongAdder();
+
+    /**
+     * @param maxAttempts        total attempts per call including the first (1 disables retries)
+     * @param nonIdempotentOptIn non-idempotent endpoints that may be retried, e.g. "POST /pet"
+     */
+    public RetryFilter(int maxAttempts, long baseDelayMillis, long maxDelayMillis, Set<Integer> retryStatusCodes,
+                       Set<String> nonIdempotentOptIn, RetryBudget budget) {
+        this(maxAttempts, baseDelayMillis, maxDelayMillis, retryStatusCodes, nonIdempotentOptIn, budget,
+                List.of(), List.of());
+    }
+
+    /**
+     * @param retryFilters   filters each retry passes before the attempt filters, e.g. a RateLimitFilter that
+     *                       is also earlier in the chain for the first attempt
+     * @param attemptFilters filters wrapping every attempt, first included, e.g. a CircuitBreakerFilter
+     *                       (neither list may rely on the context beyond ctx.next and its values)
+     */
+    public RetryFilter(int maxAttempts, long baseDelayMillis, long maxDelayMillis, Set<Integer> retryStatusCodes,
+                       Set<String> nonIdempotentOptIn, RetryBudget budget, List<Filter> retryFilters,
+                       List<Filter> attemptFilters) {
+        this.retryFilters = List.copyOf(retryFilters);
+        this.attemptFilters = List.copyOf(attemptFilters);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = Math.max(0, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+        this.retryStatusCodes = Set.copyOf(retryStatusCodes);
+        this.nonIdempotentOptIn = Set.copyOf(nonIdempotentOptIn);
+        this.budget = budget;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        if (maxAttempts == 1) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        budget.onRequest();
+        String method = requestSpec.getMethod();
+        boolean idempotent = IDEMPOTENT_METHODS.contains(method)
+                || nonIdempotentOptIn.contains(method + " " + LatencyRecordingFilter.pathTemplate(requestSpec));
+        for (int attempt = 1; ; attempt++) {
+            Response response;
+            try {
+                response = new AttemptContext(ctx, attempt > 1).next(requestSpec, responseSpec);
+            } catch (Exception e) {
+                // Sent-but-unanswered requests may have been processed, so only connect failures are always safe
+                boolean notSent = hasCause(e, ConnectException.class) || hasCause(e, ConnectTimeoutException.class);
+                if (!notSent && !hasCause(e, NoHttpResponseException.class)) {
+                    throw e;
+                }
+                if (!shouldRetry(attempt, notSent || idempotent, requestSpec, e.toString())) {
+                    throw e;
+                }
+                continue;
+            }
+            if (!retryStatusCodes.contains(response.getStatusCode())) {
+                if (attempt > 1) {
+                    recovered.increment();
+                }
+                return response;
+            }
+            // Read the body before deciding, so a discarded response releases its connection
+            response.asByteArray();
+            if (!shouldRetry(attempt, idempotent, requestSpec, "status " + response.getStatusCode())) {
+                return response;
+            }
+        }
+    }
+
+    /**
+     * Decide whether to retry after a failed attempt and, if so, wait out the backoff
+     */
+    private boolean shouldRetry(int attempt, boolean retryable, FilterableRequestSpecification requestSpec,
+                                String failure) {
+        if (!retryable) {
+            nonIdempotentSkipped.increment();
+            return false;
+        }
+        if (attempt >= maxAttempts) {
+            exhausted.increment();
+            logger.warn("Giving up on {} {} after {} attempts: {}", requestSpec.getMethod(), requestSpec.getURI(),
+                    attempt, failure);
+            return false;
+        }
+        if (!budget.tryAcquireRetry()) {
+            budgetRejected.increment();
+            logger.warn("Retry budget exhausted, not retrying {} {}: {}", requestSpec.getMethod(),
+                    requestSpec.getURI(), failure);
+            return false;
+        }
+        long delay = backoffMillis(attempt);
+        logger.info("Retrying {} {} in {}ms (attempt {}/{}): {}", requestSpec.getMethod(), requestSpec.getURI(),
+                delay, attempt + 1, maxAttempts, failure);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        retries.increment();
+        return true;
+    }
+
+    /**
+     * Full jitter: uniform in [0, min(maxDelay, baseDelay * 2^(attempt - 1))]
+     */
+    public long backoffMillis(int attempt) {
+        long ceiling = baseDelayMillis << Math.min(attempt - 1, 30);
+        ceiling = ceiling < 0 ? maxDelayMillis : Math.min(maxDelayMillis, ceiling);
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+    }
+
+    /**
+     * Filter context for one attempt: runs the retry filters (retries only) and the attempt filters, then
+     * continues the original chain (first attempt) or sends the request again through its context
+     */
+    private final class AttemptContext implements FilterContext {
+        private final FilterContext ctx;
+        private final boolean retry;
+        private final List<Filter> filters;
+        private int next;
+
+        private AttemptContext(FilterContext ctx, boolean retry) {
+            this.ctx = ctx;
+            this.retry = retry;
+            this.filters = retry && !retryFilters.isEmpty()
+                    ? Stream.concat(retryFilters.stream(), attemptFilters.stream()).toList()
+                    : attemptFilters;
+        }
+
+        @Override
+        public Response next(FilterableRequestSpecification requestSpec,
+                             FilterableResponseSpecification responseSpec) {
+            if (next < filters.size()) {
+                return filters.get(next++).filter(requestSpec, responseSpec, this);
+            }
+            return retry
+                    ? SEND_REQUEST.filter(requestSpec, responseSpec, ctx)
+                    : ctx.next(requestSpec, responseSpec);
+        }
+
+        @Override
+        public Response send(RequestSender requestSender) {
+            return ctx.send(requestSender);
+        }
+
+        @Override
+        public void setValue(String name, Object value) {
+            ctx.setValue(name, value);
+        }
+
+        @Override
+        public <T> T getValue(String name) {
+            return ctx.getValue(name);
+        }
+
+        @Override
+        public boolean hasValue(String name) {
+            return ctx.hasValue(name);
+        }
+
+        @Override
+        public boolean hasValue(String name, Object value) {
+            return ctx.hasValue(name, value);
+        }
+    }
+
+    private static boolean hasCause(Throwable error, Class<? extends Throwable> type) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get retry statistics as report metrics
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("retry.retries", retries.sum());
+        metrics.put("retry.recovered", recovered.sum());
+        metrics.put("retry.exhausted", exhausted.sum());
+        metrics.put("retry.budgetRejected", budgetRejected.sum());
+        metrics.put("retry.nonIdempotentSkipped", nonIdempotentSkipped.sum());
+        return metrics;
+    }
+}
@@ -0,0 +1,35 @@
+package com.petstore.framework.filters;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket
+ * Tracks the time the next permit becomes free (GCRA); acquiring is a single CAS that reserves a slot,
+ * and the caller waits until its slot outside of any lock. Up to burst permits are available at once
+ */
+public class TokenBucket {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong nextFreeNanos;
+
+    public TokenBucket(double permitsPerMinute, int burst) {
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.MINUTES.toNanos(1) / permitsPerMinute));
+        this.burstNanos = (Math.max(1, burst) - 1) * intervalNanos;
+        this.nextFreeNanos = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    /**
+     * Reserve a permit and get how long to wait for it (0 if available now)
+     */
+    public long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long nextFree = nextFreeNanos.get();
+            long slot = Math.max(nextFree, now - burstNanos);
+            if (nextFreeNanos.compareAndSet(nextFree, slot + intervalNanos)) {
+                return Math.max(0, slot - now);
+            }
+        }
+    }
+}
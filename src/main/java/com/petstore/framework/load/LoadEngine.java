@@ -0,0 +1,165 @@
+package com.petstore.framework.load;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load engine driving weighted scenarios built on the API services
+ * Supports closed loop (virtual users) and open loop (fixed arrival rate) profiles;
+ * every virtual user and every open loop arrival runs on its own virtual thread
+ */
+public class LoadEngine {
+    private static final Logger logger = LogManager.getLogger(LoadEngine.class);
+    private final List<LoadScenario> scenarios;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    public LoadEngine(List<LoadScenario> scenarios) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one load scenario is required");
+        }
+        this.scenarios = List.copyOf(scenarios);
+        this.cumulativeWeights = new int[scenarios.size()];
+        int sum = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            sum += scenarios.get(i).getWeight();
+            cumulativeWeights[i] = sum;
+        }
+        this.totalWeight = sum;
+    }
+
+    /**
+     * Run the scenarios with the given load profile and return per-operation results
+     */
+    public LoadResult run(LoadProfile profile) {
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        for (LoadScenario scenario : scenarios) {
+            stats.put(scenario.getName(), new OperationStats(scenario.getName()));
+        }
+
+        logger.info("Starting load run: {}", profile);
+        long startNanos = System.nanoTime();
+        RunWindow window = new RunWindow(startNanos, profile);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (profile.getMode() == LoadProfile.Mode.OPEN) {
+                runOpenLoop(profile, window, stats, executor);
+            } else {
+                runClosedLoop(profile, window, stats, executor);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        double steadySeconds = profile.getSteadyState().toNanos() / 1_000_000_000.0;
+        Map<String, OperationStats.Summary> summaries = new LinkedHashMap<>();
+        stats.forEach((name, operationStats) ->
+                summaries.put(name, operationStats.summarize(elapsedSeconds, steadySeconds)));
+
+        LoadResult result = new LoadResult(profile, elapsedNanos / 1_000_000, summaries);
+        logger.info("Load run finished{}{}", System.lineSeparator(), result.format());
+        return result;
+    }
+
+    /**
+     * Closed loop: users start evenly over ramp-up and stop evenly over ramp-down
+     */
+    private void runClosedLoop(LoadProfile profile, RunWindow window, Map<String, OperationStats> stats,
+                               ExecutorService executor) {
+        int users = profile.getUsers();
+        long rampUp = profile.getRampUp().toNanos();
+        long rampDown = profile.getRampDown().toNanos();
+        long thinkTime = profile.getThinkTime().toNanos();
+
+        for (int user = 0; user < users; user++) {
+            long userStart = window.start + rampUp * user / users;
+            long userStop = window.steadyEnd + rampDown * (users - 1 - user) / users;
+            executor.submit(() -> {
+                parkUntil(userStart);
+                while (System.nanoTime() < userStop && !Thread.currentThread().isInterrupted()) {
+                    execute(nextScenario(), System.nanoTime(), window, stats);
+                    if (thinkTime > 0) {
+                        LockSupport.parkNanos(thinkTime);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Open loop: arrivals follow the profile schedule; latency is measured from the
+     * scheduled start so queueing behind slow responses is not hidden (coordinated omission)
+     */
+    private void runOpenLoop(LoadProfile profile, RunWindow window, Map<String, OperationStats> stats,
+                             ExecutorService executor) {
+        for (long arrival = 0; ; arrival++) {
+            long offset = profile.arrivalOffsetNanos(arrival);
+            if (offset < 0) {
+                break;
+            }
+            long intendedStart = window.start + offset;
+            parkUntil(intendedStart);
+            LoadScenario scenario = nextScenario();
+            executor.submit(() -> execute(scenario, intendedStart, window, stats));
+        }
+    }
+
+    private void execute(LoadScenario scenario, long intendedStart, RunWindow window,
+                         Map<String, OperationStats> stats) {
+        long actualStart = System.nanoTime();
+        boolean success;
+        try {
+            success = scenario.getOperation().execute();
+        } catch (Exception e) {
+            logger.debug("Load operation {} failed: {}", scenario.getName(), e.getMessage());
+            success = false;
+        }
+        long end = System.nanoTime();
+        stats.get(scenario.getName()).record(end - intendedStart, end - actualStart, success,
+                window.isSteadyState(intendedStart));
+    }
+
+    private LoadScenario nextScenario() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Absolute nanoTime boundaries of the steady-state phase
+     */
+    private static class RunWindow {
+        private final long start;
+        private final long steadyStart;
+        private final long steadyEnd;
+
+        RunWindow(long start, LoadProfile profile) {
+            this.start = start;
+            this.steadyStart = start + profile.getRampUp().toNanos();
+            this.steadyEnd = steadyStart + profile.getSteadyState().toNanos();
+        }
+
+        boolean isSteadyState(long nanos) {
+            return nanos >= steadyStart && nanos < steadyEnd;
+        }
+    }
+}
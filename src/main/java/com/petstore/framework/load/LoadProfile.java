@@ -0,0 +1,129 @@
+package com.petstore.framework.load;
+
+import com.petstore.framework.config.TestConfig;
+
+import java.time.Duration;
+
+/**
+ * Load shape for a LoadEngine run
+ * Closed loop drives a fixed number of virtual users, open loop a fixed arrival rate;
+ * both ramp linearly up, hold a steady state and ramp linearly down
+ */
+public class LoadProfile {
+
+    public enum Mode {
+        CLOSED, OPEN
+    }
+
+    private final Mode mode;
+    private final int users;
+    private final double arrivalRate;
+    private final Duration rampUp;
+    private final Duration steadyState;
+    private final Duration rampDown;
+    private final Duration thinkTime;
+
+    private LoadProfile(Mode mode, int users, double arrivalRate, Duration rampUp,
+                        Duration steadyState, Duration rampDown, Duration thinkTime) {
+        if (mode == Mode.CLOSED && users <= 0) {
+            throw new IllegalArgumentException("Closed loop profile needs at least one user");
+        }
+        if (mode == Mode.OPEN && arrivalRate <= 0) {
+            throw new IllegalArgumentException("Open loop profile needs a positive arrival rate");
+        }
+        this.mode = mode;
+        this.users = users;
+        this.arrivalRate = arrivalRate;
+        this.rampUp = rampUp;
+        this.steadyState = steadyState;
+        this.rampDown = rampDown;
+        this.thinkTime = thinkTime;
+    }
+
+    /**
+     * Closed loop profile: each virtual user issues its next operation when the previous one completes
+     */
+    public static LoadProfile closedLoop(int users, Duration rampUp, Duration steadyState,
+                                         Duration rampDown, Duration thinkTime) {
+        return new LoadProfile(Mode.CLOSED, users, 0, rampUp, steadyState, rampDown, thinkTime);
+    }
+
+    /**
+     * Open loop profile: operations start on a fixed schedule regardless of response times
+     */
+    public static LoadProfile openLoop(double arrivalRatePerSecond, Duration rampUp,
+                                       Duration steadyState, Duration rampDown) {
+        return new LoadProfile(Mode.OPEN, 0, arrivalRatePerSecond, rampUp, steadyState, rampDown, Duration.ZERO);
+    }
+
+    /**
+     * Build the profile from the load.* configuration properties
+     */
+    public static LoadProfile fromConfig(TestConfig config) {
+        Duration rampUp = Duration.ofMillis(config.getLoadRampUp());
+        Duration steadyState = Duration.ofMillis(config.getLoadSteadyState());
+        Duration rampDown = Duration.ofMillis(config.getLoadRampDown());
+        if (Mode.OPEN.name().equalsIgnoreCase(config.getLoadMode())) {
+            return openLoop(config.getLoadArrivalRate(), rampUp, steadyState, rampDown);
+        }
+        return closedLoop(config.getLoadUsers(), rampUp, steadyState, rampDown,
+                Duration.ofMillis(config.getLoadThinkTime()));
+    }
+
+    /**
+     * Offset (from run start) of the n-th open loop arrival, or -1 once the schedule is exhausted.
+     * Inverts the cumulative arrival curve of the ramp-up / steady / ramp-down rate shape.
+     */
+    long arrivalOffsetNanos(long n) {
+        double rate = arrivalRate;
+        double up = seconds(rampUp);
+        double steady = seconds(steadyState);
+        double down = seconds(rampDown);
+
+        double rampUpArrivals = rate * up / 2;
+        double steadyArrivals = rampUpArrivals + rate * steady;
+        double totalArrivals = steadyArrivals + rate * down / 2;
+
+        double offset;
+        if (n < rampUpArrivals) {
+            offset = Math.sqrt(2 * n * up / rate);
+        } else if (n < steadyArrivals) {
+            offset = up + (n - rampUpArrivals) / rate;
+        } else if (n < totalArrivals) {
+            double remaining = n - steadyArrivals;
+            offset = up + steady + down - Math.sqrt(Math.max(0, down * down - 2 * down * remaining / rate));
+        } else {
+            return -1;
+        }
+        return (long) (offset * 1_000_000_000L);
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+
+    public Mode getMode() { return mode; }
+
+    public int getUsers() { return users; }
+
+    public double getArrivalRate() { return arrivalRate; }
+
+    public Duration getRampUp() { return rampUp; }
+
+    public Duration getSteadyState() { return steadyState; }
+
+    public Duration getRampDown() { return rampDown; }
+
+    public Duration getThinkTime() { return thinkTime; }
+
+    public Duration getTotalDuration() {
+        return rampUp.plus(steadyState).plus(rampDown);
+    }
+
+    @Override
+    public String toString() {
+        String load = mode == Mode.CLOSED ? users + " users" : arrivalRate + " req/s";
+        return mode + " loop, " + load + ", ramp-up " + rampUp.toMillis() + "ms, steady "
+                + steadyState.toMillis() + "ms, ramp-down " + rampDown.toMillis() + "ms";
+    }
+}
@@ -0,0 +1,76 @@
+package com.petstore.framework.load;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a LoadEngine run: per-operation throughput and latency percentiles
+ */
+public class LoadResult {
+    private final LoadProfile profile;
+    private final long elapsedMillis;
+    private final Map<String, OperationStats.Summary> summaries;
+
+    LoadResult(LoadProfile profile, long elapsedMillis, Map<String, OperationStats.Summary> summaries) {
+        this.profile = profile;
+        this.elapsedMillis = elapsedMillis;
+        this.summaries = summaries;
+    }
+
+    public LoadProfile getProfile() { return profile; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    public Collection<OperationStats.Summary> getSummaries() { return summaries.values(); }
+
+    public OperationStats.Summary getSummary(String operation) { return summaries.get(operation); }
+
+    public long getTotalCount() {
+        return summaries.values().stream().mapToLong(OperationStats.Summary::getCount).sum();
+    }
+
+    public long getTotalErrors() {
+        return summaries.values().stream().mapToLong(OperationStats.Summary::getErrors).sum();
+    }
+
+    /**
+     * Get per-operation results as report metrics
+     */
+    public Map<String, Object> toMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("load.profile", profile.toString());
+        metrics.put("load.elapsedMs", elapsedMillis);
+        metrics.put("load.totalRequests", getTotalCount());
+        metrics.put("load.totalErrors", getTotalErrors());
+        for (OperationStats.Summary summary : summaries.values()) {
+            String prefix = "load." + summary.getName() + ".";
+            metrics.put(prefix + "count", summary.getCount());
+            metrics.put(prefix + "errors", summary.getErrors());
+            metrics.put(prefix + "throughput", String.format("%.2f", summary.getThroughput()));
+            metrics.put(prefix + "steadyThroughput", String.format("%.2f", summary.getSteadyStateThroughput()));
+            metrics.put(prefix + "p50Ms", String.format("%.2f", summary.getP50Ms()));
+            metrics.put(prefix + "p90Ms", String.format("%.2f", summary.getP90Ms()));
+            metrics.put(prefix + "p99Ms", String.format("%.2f", summary.getP99Ms()));
+            metrics.put(prefix + "p999Ms", String.format("%.2f", summary.getP999Ms()));
+            metrics.put(prefix + "maxMs", String.format("%.2f", summary.getMaxMs()));
+        }
+        return metrics;
+    }
+
+    /**
+     * Format the per-operation results as a text table
+     */
+    public String format() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("Load run: %s (elapsed %dms)%n", profile, elapsedMillis));
+        table.append(String.format("%-28s %8s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "steady/s", "p50ms", "p90ms", "p99ms", "p99.9ms", "maxms"));
+        for (OperationStats.Summary s : summaries.values()) {
+            table.append(String.format("%-28s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    s.getName(), s.getCount(), s.getErrors(), s.getThroughput(), s.getSteadyStateThroughput(),
+                    s.getP50Ms(), s.getP90Ms(), s.getP99Ms(), s.getP999Ms(), s.getMaxMs()));
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.petstore.framework.load;
+
+/**
+ * Named, weighted operation driven by the LoadEngine
+ * Operations return false (or throw) to count as errors
+ */
+public class LoadScenario {
+
+    /**
+     * Single load operation, typically one or more API service calls
+     */
+    @FunctionalInterface
+    public interface Operation {
+        boolean execute() throws Exception;
+    }
+
+    private final String name;
+    private final int weight;
+    private final Operation operation;
+
+    public LoadScenario(String name, int weight, Operation operation) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Scenario weight must be positive: " + name);
+        }
+        this.name = name;
+        this.weight = weight;
+        this.operation = operation;
+    }
+
+    public String getName() { return name; }
+
+    public int getWeight() { return weight; }
+
+    public Operation getOperation() { return operation; }
+}
@@ -0,0 +1,28 @@
+package com.petstore.framework.load;
+
+import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.reporting.CustomReportGenerator;
+import com.petstore.framework.stub.StubServerHook;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Command line launcher for the default PetStore load run
+ * Usage: mvn test -Pload-test [-Dpetstore.load.mode=open -Dpetstore.load.arrival.rate=50]
+ * With stub.server.enabled=true the run targets the embedded PetStore stub instead of base.url
+ */
+public class LoadTestRunner {
+    private static final Logger logger = LogManager.getLogger(LoadTestRunner.class);
+
+    public static void main(String[] args) {
+        StubServerHook.startIfEnabled();
+        LoadProfile profile = LoadProfile.fromConfig(TestConfig.getInstance());
+        LoadResult result = new LoadEngine(PetStoreLoadScenarios.defaultScenarios()).run(profile);
+
+        CustomReportGenerator reportGenerator = new CustomReportGenerator();
+        result.toMetrics().forEach(reportGenerator::addMetric);
+        String reportPath = reportGenerator.generateReport();
+        logger.info("Load test report generated: {}", reportPath);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,134 @@
+package com.petstore.framework.load;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation counters and latency samples collected during a load run
+ * Latency is measured from the intended start time (coordinated-omission corrected);
+ * service time is measured from the actual start time
+ */
+public class OperationStats {
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder steadyStateCount = new LongAdder();
+    private long[] latencies = new long[1024];
+    private long[] serviceTimes = new long[1024];
+    private int samples;
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    void record(long latencyNanos, long serviceTimeNanos, boolean success, boolean steadyState) {
+        count.increment();
+        if (!success) {
+            errors.increment();
+        }
+        if (steadyState) {
+            steadyStateCount.increment();
+        }
+        synchronized (this) {
+            if (samples == latencies.length) {
+                latencies = Arrays.copyOf(latencies, samples * 2);
+                serviceTimes = Arrays.copyOf(serviceTimes, samples * 2);
+            }
+            latencies[samples] = latencyNanos;
+            serviceTimes[samples] = serviceTimeNanos;
+            samples++;
+        }
+    }
+
+    /**
+     * Immutable summary of the collected samples
+     */
+    public static class Summary {
+        private final String name;
+        private final long count;
+        private final long errors;
+        private final double throughput;
+        private final double steadyStateThroughput;
+        private final double meanMs;
+        private final double p50Ms;
+        private final double p90Ms;
+        private final double p99Ms;
+        private final double p999Ms;
+        private final double maxMs;
+        private final double serviceP99Ms;
+
+        Summary(String name, long count, long errors, double throughput, double steadyStateThroughput,
+                long[] latencies, long[] serviceTimes) {
+            this.name = name;
+            this.count = count;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.steadyStateThroughput = steadyStateThroughput;
+            this.meanMs = latencies.length == 0 ? 0 : toMillis(Arrays.stream(latencies).sum() / latencies.length);
+            this.p50Ms = percentile(latencies, 50);
+            this.p90Ms = percentile(latencies, 90);
+            this.p99Ms = percentile(latencies, 99);
+            this.p999Ms = percentile(latencies, 99.9);
+            this.maxMs = latencies.length == 0 ? 0 : toMillis(latencies[latencies.length - 1]);
+            this.serviceP99Ms = percentile(serviceTimes, 99);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+
+        public String getName() { return name; }
+
+        public long getCount() { return count; }
+
+        public long getErrors() { return errors; }
+
+        public double getErrorRate() { return count == 0 ? 0 : (double) errors / count * 100; }
+
+        public double getThroughput() { return throughput; }
+
+        public double getSteadyStateThroughput() { return steadyStateThroughput; }
+
+        public double getMeanMs() { return meanMs; }
+
+        public double getP50Ms() { return p50Ms; }
+
+        public double getP90Ms() { return p90Ms; }
+
+        public double getP99Ms() { return p99Ms; }
+
+        public double getP999Ms() { return p999Ms; }
+
+        public double getMaxMs() { return maxMs; }
+
+        public double getServiceP99Ms() { return serviceP99Ms; }
+    }
+
+    /**
+     * Summarize the collected samples over the given run and steady-state durations
+     */
+    Summary summarize(double elapsedSeconds, double steadyStateSeconds) {
+        long[] sortedLatencies;
+        long[] sortedServiceTimes;
+        synchronized (this) {
+            sortedLatencies = Arrays.copyOf(latencies, samples);
+            sortedServiceTimes = Arrays.copyOf(serviceTimes, samples);
+        }
+        Arrays.sort(sortedLatencies);
+        Arrays.sort(sortedServiceTimes);
+
+        long total = count.sum();
+        double throughput = elapsedSeconds > 0 ? total / elapsedSeconds : 0;
+        double steadyThroughput = steadyStateSeconds > 0 ? steadyStateCount.sum() / steadyStateSeconds : 0;
+        return new Summary(name, total, errors.sum(), throughput, steadyThroughput,
+                sortedLatencies, sortedServiceTimes);
+    }
+}
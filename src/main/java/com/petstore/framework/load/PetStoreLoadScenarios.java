@@ -0,0 +1,67 @@
+package com.petstore.framework.load;
+
+import com.petstore.api.PetApiService;
+import com.petstore.api.StoreApiService;
+import com.petstore.api.UserApiService;
+import com.petstore.models.Order;
+import com.petstore.models.Pet;
+import com.petstore.models.User;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Default weighted PetStore scenarios built on the existing API services
+ * Mix is read-heavy: browsing and inventory dominate, writes clean up after themselves
+ */
+public class PetStoreLoadScenarios {
+    private static final String[] STATUSES = {"available", "pending", "sold"};
+
+    private PetStoreLoadScenarios() {
+    }
+
+    /**
+     * Get the default PetStore scenario mix
+     */
+    public static List<LoadScenario> defaultScenarios() {
+        // Every virtual user's read must reach the server, so load runs never join a call in flight
+        PetApiService petApiService = new PetApiService().withoutCoalescing();
+        StoreApiService storeApiService = new StoreApiService().withoutCoalescing();
+        UserApiService userApiService = new UserApiService();
+
+        return List.of(
+                new LoadScenario("findPetsByStatus", 40, () ->
+                        petApiService.findPetsByStatus(randomStatus()) != null),
+                new LoadScenario("getInventory", 20, () ->
+                        storeApiService.getInventory() != null),
+                new LoadScenario("createGetDeletePet", 20, () -> {
+                    Pet created = petApiService.createPet(new Pet(uniqueId(), "load-pet", randomStatus()));
+                    return created != null
+                            && petApiService.getPetById(created.getId()) != null
+                            && petApiService.deletePet(created.getId());
+                }),
+                new LoadScenario("placeAndGetOrder", 10, () -> {
+                    Order order = new Order(uniqueId(), 1, "placed");
+                    order.setId(ThreadLocalRandom.current().nextLong(1, 11));
+                    Order created = storeApiService.createOrder(order);
+                    return created != null && storeApiService.getOrderById(created.getId()) != null;
+                }),
+                new LoadScenario("createUserAndLogin", 10, () -> {
+                    String username = "load_user_" + uniqueId();
+                    User user = new User(username, username + "@example.com");
+                    user.setPassword("load-password");
+                    return userApiService.createUser(user).getStatusCode() == 200
+                            && userApiService.login(username, "load-password").getStatusCode() == 200
+                            && userApiService.deleteUser(username).getStatusCode() == 200;
+                })
+        );
+    }
+
+    private static String randomStatus() {
+        return STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+    }
+
+    private static long uniqueId() {
+        return ThreadLocalRandom.current().nextLong(1_000_000L, Long.MAX_VALUE / 2);
+    }
+}
@@ -0,0 +1,198 @@
+package com.petstore.framework.metrics;
+
+import com.petstore.framework.config.TestConfig;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Per-endpoint latency recorder backed by HDR histograms
+ * Keyed by HTTP method, path template and status code; recording is wait-free and
+ * allocation-free once an endpoint/status has been seen, except when a call becomes the new slowest
+ * and its request ID is kept as that key's exemplar
+ */
+public class LatencyRecorder {
+    private static final Logger logger = LogManager.getLogger(LatencyRecorder.class);
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int MAX_STATUS_CODE = 600;
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, EndpointRecorders>> recorders =
+            new ConcurrentHashMap<>();
+    private final Map<String, Histogram> totals = new TreeMap<>();
+    private final Map<String, Exemplar> slowest = new TreeMap<>();
+    private final Map<Recorder, Histogram> intervalHistograms = new ConcurrentHashMap<>();
+    private final long startTimeMillis = System.currentTimeMillis();
+    private HistogramLogWriter logWriter;
+
+    private LatencyRecorder() {
+    }
+
+    private static class Holder {
+        private static final LatencyRecorder INSTANCE = new LatencyRecorder();
+    }
+
+    public static LatencyRecorder getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Record a single call latency; status code 0 marks calls that failed without a response
+     */
+    public void record(String method, String pathTemplate, int statusCode, long latencyNanos) {
+        record(method, pathTemplate, statusCode, latencyNanos, null);
+    }
+
+    /**
+     * Record a single call latency along with the X-Request-ID it was sent with
+     */
+    public void record(String method, String pathTemplate, int statusCode, long latencyNanos, String requestId) {
+        EndpointRecorders endpoint = recorders
+                .computeIfAbsent(pathTemplate, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> new EndpointRecorders());
+        int slot = statusCode > 0 && statusCode < MAX_STATUS_CODE ? statusCode : 0;
+        Recorder recorder = endpoint.byStatus.get(slot);
+        if (recorder == null) {
+            endpoint.byStatus.compareAndSet(slot, null, new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS));
+            recorder = endpoint.byStatus.get(slot);
+        }
+        long value = Math.min(Math.max(latencyNanos, 0), HIGHEST_TRACKABLE_NANOS);
+        recorder.recordValue(value);
+        if (requestId != null) {
+            endpoint.offerSlowest(slot, requestId, value);
+        }
+    }
+
+    /**
+     * Take an interval snapshot of everything recorded since the previous snapshot,
+     * merge it into the run totals and append it to the histogram log
+     */
+    public synchronized Map<String, Histogram> takeSnapshot() {
+        Map<String, Histogram> snapshot = new TreeMap<>();
+        recorders.forEach((pathTemplate, byMethod) -> byMethod.forEach((method, endpoint) -> {
+            for (int status = 0; status < MAX_STATUS_CODE; status++) {
+                Recorder recorder = endpoint.byStatus.get(status);
+                if (recorder == null) {
+                    continue;
+                }
+                Histogram interval = recorder.getIntervalHistogram(intervalHistograms.get(recorder));
+                intervalHistograms.put(recorder, interval);
+                if (interval.getTotalCount() == 0) {
+                    continue;
+                }
+                String key = method + " " + pathTemplate + " " + status;
+                Exemplar exemplar = endpoint.slowest.get(status);
+                if (exemplar != null) {
+                    slowest.put(key, exemplar);
+                }
+                Histogram copy = interval.copy();
+                copy.setTag(key.replace(' ', ':'));
+                snapshot.put(key, copy);
+                totals.computeIfAbsent(key, k -> new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS))
+                        .add(interval);
+            }
+        }));
+        writeToLog(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Snapshot outstanding samples and get per-endpoint percentiles as report metrics
+     */
+    public synchronized Map<String, Object> getLatencyMetrics() {
+        takeSnapshot();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        totals.forEach((key, histogram) -> {
+            String prefix = "latency." + key + ".";
+            metrics.put(prefix + "count", histogram.getTotalCount());
+            metrics.put(prefix + "p50Ms", toMillis(histogram.getValueAtPercentile(50)));
+            metrics.put(prefix + "p95Ms", toMillis(histogram.getValueAtPercentile(95)));
+            metrics.put(prefix + "p99Ms", toMillis(histogram.getValueAtPercentile(99)));
+            metrics.put(prefix + "p999Ms", toMillis(histogram.getValueAtPercentile(99.9)));
+            metrics.put(prefix + "maxMs", toMillis(histogram.getMaxValue()));
+            Exemplar exemplar = slowest.get(key);
+            if (exemplar != null) {
+                metrics.put(prefix + "maxRequestId", exemplar.requestId);
+            }
+        });
+        return metrics;
+    }
+
+    /**
+     * Get a copy of the accumulated histogram for an endpoint key ("METHOD /path/{param} STATUS")
+     */
+    public synchronized Histogram getTotalHistogram(String key) {
+        Histogram histogram = totals.get(key);
+        return histogram != null ? histogram.copy() : null;
+    }
+
+    private void writeToLog(Map<String, Histogram> snapshot) {
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        try {
+            if (logWriter == null) {
+                File logFile = new File(TestConfig.getInstance().getLatencyHistogramLog());
+                if (logFile.getParentFile() != null) {
+                    logFile.getParentFile().mkdirs();
+                }
+                logWriter = new HistogramLogWriter(new PrintStream(new FileOutputStream(logFile), true));
+                logWriter.outputLogFormatVersion();
+                logWriter.outputStartTime(startTimeMillis);
+                logWriter.setBaseTime(startTimeMillis);
+                logWriter.outputLegend();
+                logger.info("Writing latency histogram log to: {}", logFile.getPath());
+            }
+            for (Histogram histogram : snapshot.values()) {
+                logWriter.outputIntervalHistogram(histogram);
+            }
+        } catch (FileNotFoundException e) {
+            logger.warn("Could not write latency histogram log: {}", e.getMessage());
+        }
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Recorders and slowest-call exemplars for one method/path template, indexed by status code
+     */
+    private static final class EndpointRecorders {
+        private final AtomicReferenceArray<Recorder> byStatus = new AtomicReferenceArray<>(MAX_STATUS_CODE);
+        private final AtomicReferenceArray<Exemplar> slowest = new AtomicReferenceArray<>(MAX_STATUS_CODE);
+
+        void offerSlowest(int slot, String requestId, long latencyNanos) {
+            Exemplar current = slowest.get(slot);
+            while (current == null || latencyNanos > current.latencyNanos) {
+                if (slowest.compareAndSet(slot, current, new Exemplar(requestId, latencyNanos))) {
+                    return;
+                }
+                current = slowest.get(slot);
+            }
+        }
+    }
+
+    private static final class Exemplar {
+        private final String requestId;
+        private final long latencyNanos;
+
+        Exemplar(String requestId, long latencyNanos) {
+            this.requestId = requestId;
+            this.latencyNanos = latencyNanos;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.petstore.framework.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts HTTP calls that failed on a timeout, by the timeout that fired
+ */
+public class TimeoutCounter {
+    public enum Kind { POOL, CONNECT, READ, DEADLINE }
+
+    private final LongAdder[] counts = new LongAdder[Kind.values().length];
+
+    private TimeoutCounter() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    private static class Holder {
+        private static final TimeoutCounter INSTANCE = new TimeoutCounter();
+    }
+
+    public static TimeoutCounter getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public void record(Kind kind) {
+        counts[kind.ordinal()].increment();
+    }
+
+    /**
+     * Get timeout counts as report metrics (timeout.total plus one entry per kind)
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        long total = 0;
+        for (Kind kind : Kind.values()) {
+            long count = counts[kind.ordinal()].sum();
+            metrics.put("timeout." + kind.name().toLowerCase(), count);
+            total += count;
+        }
+        metrics.put("timeout.total", total);
+        return metrics;
+    }
+}
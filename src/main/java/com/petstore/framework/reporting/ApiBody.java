@@ -0,0 +1,55 @@
+package com.petstore.framework.reporting;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request or response body handed to the reporting pipeline as either UTF-8 bytes or text
+ * The other representation is only produced when a report actually needs it, on the report writer
+ */
+public final class ApiBody {
+    private static final ApiBody EMPTY = new ApiBody(null, null);
+
+    private final byte[] bytes;
+    private final String text;
+
+    private ApiBody(byte[] bytes, String text) {
+        this.bytes = bytes;
+        this.text = text;
+    }
+
+    public static ApiBody empty() {
+        return EMPTY;
+    }
+
+    public static ApiBody of(byte[] bytes) {
+        return bytes == null || bytes.length == 0 ? EMPTY : new ApiBody(bytes, null);
+    }
+
+    public static ApiBody of(String text) {
+        return text == null || text.isEmpty() ? EMPTY : new ApiBody(null, text);
+    }
+
+    public boolean isEmpty() {
+        return bytes == null && text == null;
+    }
+
+    /**
+     * Body as UTF-8 bytes (shared, not copied; callers must not modify it)
+     */
+    public byte[] asBytes() {
+        if (bytes != null) {
+            return bytes;
+        }
+        return text != null ? text.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    /**
+     * Body as text
+     */
+    public String asText() {
+        if (text != null) {
+            return text;
+        }
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : "";
+    }
+}
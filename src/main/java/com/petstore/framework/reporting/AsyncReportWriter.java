@@ -0,0 +1,214 @@
+package com.petstore.framework.reporting;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jctools.queues.MpmcArrayQueue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded, lock-free reporting pipeline drained by a dedicated writer thread
+ * Test threads only enqueue events; ExtentReports, Allure attachment and log writes happen on the writer
+ */
+public class AsyncReportWriter {
+    private static final Logger logger = LogManager.getLogger(AsyncReportWriter.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * What producers do when the queue is full
+     * BLOCK waits for space, DROP_OLDEST evicts the oldest queued event,
+     * SAMPLE keeps only 1-in-N events once the queue passes its high-water mark
+     */
+    public enum BackPressurePolicy {
+        BLOCK, DROP_OLDEST, SAMPLE
+    }
+
+    private final MpmcArrayQueue<Runnable> queue;
+    private final BackPressurePolicy policy;
+    private final int sampleRate;
+    private final int highWaterMark;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicInteger producers = new AtomicInteger();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile boolean stopped;
+    private volatile boolean writerIdle;
+
+    AsyncReportWriter(int capacity, BackPressurePolicy policy, int sampleRate) {
+        this.queue = new MpmcArrayQueue<>(capacity);
+        this.policy = policy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.highWaterMark = queue.capacity() * 3 / 4;
+        this.writerThread = new Thread(this::drain, "report-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        logger.info("Async report writer started - capacity: {}, back-pressure: {}", queue.capacity(), policy);
+    }
+
+    /**
+     * Decide whether a new event should be recorded at all (only SAMPLE rejects events up front)
+     */
+    boolean admit() {
+        if (policy != BackPressurePolicy.SAMPLE || queue.size() < highWaterMark) {
+            return true;
+        }
+        if (sampleCounter.incrementAndGet() % sampleRate == 0) {
+            return true;
+        }
+        sampledOut.increment();
+        return false;
+    }
+
+    /**
+     * Enqueue an event, applying the back-pressure policy if the queue is full
+     * Once shutdown has begun, events are written inline after the writer thread has exited
+     */
+    void submit(Runnable event) {
+        // Registered before reading running, so shutdown waits for every producer that saw it true
+        producers.incrementAndGet();
+        if (!running) {
+            producers.decrementAndGet();
+            writeInline(event);
+            return;
+        }
+        try {
+            enqueue(event);
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    private void enqueue(Runnable event) {
+        pending.incrementAndGet();
+        while (!queue.offer(event)) {
+            if (policy == BackPressurePolicy.BLOCK) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            } else if (policy == BackPressurePolicy.DROP_OLDEST) {
+                dropOldest();
+            } else {
+                pending.decrementAndGet();
+                dropped.increment();
+                return;
+            }
+        }
+        enqueued.increment();
+        if (writerIdle) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void writeInline(Runnable event) {
+        if (Thread.currentThread() == writerThread) {
+            writeEvent(event);
+            return;
+        }
+        boolean interrupted = false;
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            writeEvent(event);
+        }
+    }
+
+    private void drain() {
+        while (!stopped || !queue.isEmpty()) {
+            Runnable event = queue.poll();
+            if (event == null) {
+                writerIdle = true;
+                if (queue.isEmpty() && !stopped) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                writerIdle = false;
+                continue;
+            }
+            writeEvent(event);
+            pending.decrementAndGet();
+        }
+    }
+
+    private void writeEvent(Runnable event) {
+        try {
+            event.run();
+            written.increment();
+        } catch (Exception e) {
+            logger.warn("Error writing report event: {}", e.getMessage());
+        }
+    }
+
+    private void dropOldest() {
+        if (queue.poll() != null) {
+            pending.decrementAndGet();
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Wait until every queued event has been written (or the timeout expires)
+     */
+    public boolean flush(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                logger.warn("Timed out flushing report writer with {} events pending", pending.get());
+                return false;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Drain the queue and stop the writer thread; later events are written inline
+     * Events from producers already enqueueing when shutdown begins are still written by the writer
+     */
+    public void shutdown(long timeoutMillis) {
+        flush(timeoutMillis);
+        running = false;
+        while (producers.get() > 0) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        stopped = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get pipeline statistics as report metrics
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("reporting.policy", policy.name());
+        metrics.put("reporting.enqueued", enqueued.sum());
+        metrics.put("reporting.written", written.sum());
+        metrics.put("reporting.dropped", dropped.sum());
+        metrics.put("reporting.sampledOut", sampledOut.sum());
+        metrics.put("reporting.pending", pending.get());
+        return metrics;
+    }
+}
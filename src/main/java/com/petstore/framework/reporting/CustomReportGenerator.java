@@ -4,36 +4,53 @@ import com.petstore.framework.config.TestConfig;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Custom HTML Report Generator with interactive charts and detailed test information
+ * Results and metrics may be added concurrently from parallel TestNG threads
  */
 public class CustomReportGenerator {
     private static final Logger logger = LogManager.getLogger(CustomReportGenerator.class);
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final Set<String> SUMMARY_METRICS = Set.of("totalTests", "passedTests", "failedTests",
+            "skippedTests", "passRate", "totalDuration", "averageDuration", "executionTime");
     private final TestConfig config;
     private final String reportPath;
-    private final List<TestResult> testResults;
+    private final Queue<TestResult> testResults;
     private final Map<String, Object> testMetrics;
 
     public CustomReportGenerator() {
         this.config = TestConfig.getInstance();
         this.reportPath = config.getReportPath();
-        this.testResults = new ArrayList<>();
-        this.testMetrics = new HashMap<>();
+        this.testResults = new ConcurrentLinkedQueue<>();
+        this.testMetrics = new ConcurrentHashMap<>();
     }
 
     /**
      * Test result data class
+     * Test data and API call collections are synchronized; iterate them while holding their lock
      */
     public static class TestResult {
         private String testName;
@@ -49,8 +66,8 @@ public class CustomReportGenerator {
         private List<String> apiCalls;
 
         public TestResult() {
-            this.testData = new HashMap<>();
-            this.apiCalls = new ArrayList<>();
+            this.testData = Collections.synchronizedMap(new LinkedHashMap<>());
+            this.apiCalls = Collections.synchronizedList(new ArrayList<>());
         }
 
         public TestResult(String testName, String testClass) {
@@ -88,10 +105,14 @@ public class CustomReportGenerator {
         public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
 
         public Map<String, String> getTestData() { return testData; }
-        public void setTestData(Map<String, String> testData) { this.testData = testData; }
+        public void setTestData(Map<String, String> testData) {
+            this.testData = Collections.synchronizedMap(new LinkedHashMap<>(testData));
+        }
 
         public List<String> getApiCalls() { return apiCalls; }
-        public void setApiCalls(List<String> apiCalls) { this.apiCalls = apiCalls; }
+        public void setApiCalls(List<String> apiCalls) {
+            this.apiCalls = Collections.synchronizedList(new ArrayList<>(apiCalls));
+        }
 
         public void addApiCall(String apiCall) {
             this.apiCalls.add(apiCall);
@@ -111,10 +132,14 @@ public class CustomReportGenerator {
     }
 
     /**
-     * Add test metric
+     * Add test metric (a null value removes the metric)
      */
     public void addMetric(String key, Object value) {
-        testMetrics.put(key, value);
+        if (value == null) {
+            testMetrics.remove(key);
+        } else {
+            testMetrics.put(key, value);
+        }
     }
 
     /**
@@ -133,14 +158,13 @@ public class CustomReportGenerator {
             String reportFileName = "petstore_api_report_" + timestamp + ".html";
             String reportFilePath = reportPath + File.separator + reportFileName;
 
-            // Calculate metrics
-            calculateMetrics();
-
-            // Generate HTML content
-            String htmlContent = generateHtmlContent();
-
-            // Write to file
-            Files.write(Paths.get(reportFilePath), htmlContent.getBytes());
+            // Stream HTML straight to the file; memory stays bounded by the write buffer
+            try (FileChannel channel = FileChannel.open(Paths.get(reportFilePath), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8),
+                         WRITE_BUFFER_SIZE)) {
+                writeReport(out);
+            }
 
             logger.info("Custom report generated: {}", reportFilePath);
             return reportFilePath;
@@ -151,6 +175,14 @@ public class CustomReportGenerator {
         }
     }
 
+    /**
+     * Calculate metrics and render the HTML report to the given writer
+     */
+    public void writeReport(Writer out) throws IOException {
+        calculateMetrics();
+        writeHtmlContent(out);
+    }
+
     /**
      * Calculate test metrics
      */
@@ -193,543 +225,569 @@ public class CustomReportGenerator {
     }
 
     /**
-     * Generate HTML content with charts and detailed information
+     * Write HTML content with charts and detailed information, one section at a time
      */
-    private String generateHtmlContent() {
-        StringBuilder html = new StringBuilder();
-
+    private void writeHtmlContent(Writer out) throws IOException {
         // HTML Header
-        html.append("<!DOCTYPE html>\n");
-        html.append("<html lang=\"en\">\n");
-        html.append("<head>\n");
-        html.append("    <meta charset=\"UTF-8\">\n");
-        html.append("    <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">\n");
-        html.append("    <title>PetStore API Test Report</title>\n");
-        html.append("    <script src=\"https://cdn.jsdelivr.net/npm/chart.js\"></script>\n");
-        html.append("    <style>\n");
-        html.append(generateCssStyles());
-        html.append("    </style>\n");
-        html.append("</head>\n");
-        html.append("<body>\n");
+        out.append("<!DOCTYPE html>\n");
+        out.append("<html lang=\"en\">\n");
+        out.append("<head>\n");
+        out.append("    <meta charset=\"UTF-8\">\n");
+        out.append("    <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">\n");
+        out.append("    <title>PetStore API Test Report</title>\n");
+        out.append("    <script src=\"https://cdn.jsdelivr.net/npm/chart.js\"></script>\n");
+        out.append("    <style>\n");
+        writeCssStyles(out);
+        out.append("    </style>\n");
+        out.append("</head>\n");
+        out.append("<body>\n");
 
         // Header
-        html.append(generateHeader());
+        writeHeader(out);
 
         // Summary Section
-        html.append(generateSummarySection());
+        writeSummarySection(out);
 
         // Charts Section
-        html.append(generateChartsSection());
+        writeChartsSection(out);
+
+        // Run Metrics Section
+        writeMetricsSection(out);
 
         // Detailed Results Section
-        html.append(generateDetailedResultsSection());
+        writeDetailedResultsSection(out);
 
         // Footer
-        html.append(generateFooter());
-
-        html.append("</body>\n");
-        html.append("</html>");
+        writeFooter(out);
 
-        return html.toString();
+        out.append("</body>\n");
+        out.append("</html>");
     }
 
     /**
      * Generate CSS styles
      */
-    private String generateCssStyles() {
-        StringBuilder css = new StringBuilder();
-
-        css.append("* {\n");
-        css.append("    margin: 0;\n");
-        css.append("    padding: 0;\n");
-        css.append("    box-sizing: border-box;\n");
-        css.append("}\n");
-
-        css.append("body {\n");
-        css.append("    font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;\n");
-        css.append("    line-height: 1.6;\n");
-        css.append("    color: #333;\n");
-        css.append("    background-color: #f5f5f5;\n");
-        css.append("}\n");
-
-        css.append(".container {\n");
-        css.append("    max-width: 1200px;\n");
-        css.append("    margin: 0 auto;\n");
-        css.append("    padding: 20px;\n");
-        css.append("}\n");
-
-        css.append(".header {\n");
-        css.append("    background: linear-gradient(135deg, #667eea 0%, #764ba2 100%);\n");
-        css.append("    color: white;\n");
-        css.append("    padding: 30px 0;\n");
-        css.append("    text-align: center;\n");
-        css.append("    border-radius: 10px;\n");
-        css.append("    margin-bottom: 30px;\n");
-        css.append("    box-shadow: 0 4px 6px rgba(0, 0, 0, 0.1);\n");
-        css.append("}\n");
-
-        css.append(".header h1 {\n");
-        css.append("    font-size: 2.5em;\n");
-        css.append("    margin-bottom: 10px;\n");
-        css.append("}\n");
-
-        css.append(".header p {\n");
-        css.append("    font-size: 1.1em;\n");
-        css.append("    opacity: 0.9;\n");
-        css.append("}\n");
-
-        css.append(".summary-grid {\n");
-        css.append("    display: grid;\n");
-        css.append("    grid-template-columns: repeat(auto-fit, minmax(200px, 1fr));\n");
-        css.append("    gap: 20px;\n");
-        css.append("    margin-bottom: 30px;\n");
-        css.append("}\n");
-
-        css.append(".summary-card {\n");
-        css.append("    background: white;\n");
-        css.append("    padding: 25px;\n");
-        css.append("    border-radius: 10px;\n");
-        css.append("    text-align: center;\n");
-        css.append("    box-shadow: 0 5px 15px rgba(0, 0, 0, 0.08);\n");
-        css.append("    transition: transform 0.3s ease;\n");
-        css.append("}\n");
-
-        css.append(".summary-card:hover {\n");
-        css.append("    transform: translateY(-5px);\n");
-        css.append("}\n");
-
-        css.append(".summary-card h3 {\n");
-        css.append("    font-size: 2em;\n");
-        css.append("    margin-bottom: 10px;\n");
-        css.append("    color: #667eea;\n");
-        css.append("}\n");
-
-        css.append(".summary-card.passed h3 {\n");
-        css.append("    color: #28a745;\n");
-        css.append("}\n");
-
-        css.append(".summary-card.failed h3 {\n");
-        css.append("    color: #dc3545;\n");
-        css.append("}\n");
-
-        css.append(".summary-card.skipped h3 {\n");
-        css.append("    color: #ffc107;\n");
-        css.append("}\n");
-
-        css.append(".charts-section {\n");
-        css.append("    background: white;\n");
-        css.append("    padding: 30px;\n");
-        css.append("    border-radius: 10px;\n");
-        css.append("    margin-bottom: 30px;\n");
-        css.append("    box-shadow: 0 5px 15px rgba(0, 0, 0, 0.08);\n");
-        css.append("}\n");
-
-        css.append(".charts-grid {\n");
-        css.append("    display: grid;\n");
-        css.append("    grid-template-columns: 1fr 1fr;\n");
-        css.append("    gap: 30px;\n");
-        css.append("    margin-top: 20px;\n");
-        css.append("}\n");
-
-        css.append(".chart-container {\n");
-        css.append("    background: #f8f9fa;\n");
-        css.append("    padding: 20px;\n");
-        css.append("    border-radius: 8px;\n");
-        css.append("    height: 300px;\n");
-        css.append("}\n");
-
-        css.append(".results-section {\n");
-        css.append("    background: white;\n");
-        css.append("    padding: 30px;\n");
-        css.append("    border-radius: 10px;\n");
-        css.append("    box-shadow: 0 5px 15px rgba(0, 0, 0, 0.08);\n");
-        css.append("}\n");
-
-        css.append(".test-result {\n");
-        css.append("    border: 1px solid #dee2e6;\n");
-        css.append("    border-radius: 8px;\n");
-        css.append("    margin-bottom: 15px;\n");
-        css.append("    overflow: hidden;\n");
-        css.append("}\n");
-
-        css.append(".test-header {\n");
-        css.append("    display: flex;\n");
-        css.append("    justify-content: space-between;\n");
-        css.append("    align-items: center;\n");
-        css.append("    padding: 15px 20px;\n");
-        css.append("    background: #f8f9fa;\n");
-        css.append("    cursor: pointer;\n");
-        css.append("    transition: background-color 0.3s ease;\n");
-        css.append("}\n");
-
-        css.append(".test-header:hover {\n");
-        css.append("    background: #e9ecef;\n");
-        css.append("}\n");
-
-        css.append(".test-header.pass {\n");
-        css.append("    border-left: 5px solid #28a745;\n");
-        css.append("}\n");
-
-        css.append(".test-header.fail {\n");
-        css.append("    border-left: 5px solid #dc3545;\n");
-        css.append("}\n");
-
-        css.append(".test-header.skip {\n");
-        css.append("    border-left: 5px solid #ffc107;\n");
-        css.append("}\n");
-
-        css.append(".test-name {\n");
-        css.append("    font-weight: 600;\n");
-        css.append("    color: #333;\n");
-        css.append("}\n");
-
-        css.append(".test-status {\n");
-        css.append("    padding: 5px 12px;\n");
-        css.append("    border-radius: 20px;\n");
-        css.append("    font-size: 0.9em;\n");
-        css.append("    font-weight: 600;\n");
-        css.append("}\n");
-
-        css.append(".status-pass {\n");
-        css.append("    background: #d4edda;\n");
-        css.append("    color: #155724;\n");
-        css.append("}\n");
-
-        css.append(".status-fail {\n");
-        css.append("    background: #f8d7da;\n");
-        css.append("    color: #721c24;\n");
-        css.append("}\n");
-
-        css.append(".status-skip {\n");
-        css.append("    background: #fff3cd;\n");
-        css.append("    color: #856404;\n");
-        css.append("}\n");
-
-        css.append(".test-details {\n");
-        css.append("    padding: 20px;\n");
-        css.append("    display: none;\n");
-        css.append("    background: white;\n");
-        css.append("}\n");
-
-        css.append(".test-details.show {\n");
-        css.append("    display: block;\n");
-        css.append("}\n");
-
-        css.append(".detail-row {\n");
-        css.append("    display: flex;\n");
-        css.append("    margin-bottom: 10px;\n");
-        css.append("}\n");
-
-        css.append(".detail-label {\n");
-        css.append("    font-weight: 600;\n");
-        css.append("    width: 120px;\n");
-        css.append("    color: #667eea;\n");
-        css.append("}\n");
-
-        css.append(".detail-value {\n");
-        css.append("    flex: 1;\n");
-        css.append("}\n");
-
-        css.append(".error-details {\n");
-        css.append("    background: #fff5f5;\n");
-        css.append("    border: 1px solid #fed7d7;\n");
-        css.append("    border-radius: 5px;\n");
-        css.append("    padding: 15px;\n");
-        css.append("    margin-top: 15px;\n");
-        css.append("}\n");
-
-        css.append(".error-details pre {\n");
-        css.append("    margin: 0;\n");
-        css.append("    color: #c53030;\n");
-        css.append("    font-size: 0.9em;\n");
-        css.append("    white-space: pre-wrap;\n");
-        css.append("}\n");
-
-        css.append(".footer {\n");
-        css.append("    text-align: center;\n");
-        css.append("    padding: 20px;\n");
-        css.append("    color: #666;\n");
-        css.append("    margin-top: 30px;\n");
-        css.append("}\n");
-
-        css.append("@media (max-width: 768px) {\n");
-        css.append("    .charts-grid {\n");
-        css.append("        grid-template-columns: 1fr;\n");
-        css.append("    }\n");
-        css.append("    .summary-grid {\n");
-        css.append("        grid-template-columns: repeat(2, 1fr);\n");
-        css.append("    }\n");
-        css.append("}\n");
-
-        return css.toString();
+    private void writeCssStyles(Writer out) throws IOException {
+        out.append("* {\n");
+        out.append("    margin: 0;\n");
+        out.append("    padding: 0;\n");
+        out.append("    box-sizing: border-box;\n");
+        out.append("}\n");
+
+        out.append("body {\n");
+        out.append("    font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;\n");
+        out.append("    line-height: 1.6;\n");
+        out.append("    color: #333;\n");
+        out.append("    background-color: #f5f5f5;\n");
+        out.append("}\n");
+
+        out.append(".container {\n");
+        out.append("    max-width: 1200px;\n");
+        out.append("    margin: 0 auto;\n");
+        out.append("    padding: 20px;\n");
+        out.append("}\n");
+
+        out.append(".header {\n");
+        out.append("    background: linear-gradient(135deg, #667eea 0%, #764ba2 100%);\n");
+        out.append("    color: white;\n");
+        out.append("    padding: 30px 0;\n");
+        out.append("    text-align: center;\n");
+        out.append("    border-radius: 10px;\n");
+        out.append("    margin-bottom: 30px;\n");
+        out.append("    box-shadow: 0 4px 6px rgba(0, 0, 0, 0.1);\n");
+        out.append("}\n");
+
+        out.append(".header h1 {\n");
+        out.append("    font-size: 2.5em;\n");
+        out.append("    margin-bottom: 10px;\n");
+        out.append("}\n");
+
+        out.append(".header p {\n");
+        out.append("    font-size: 1.1em;\n");
+        out.append("    opacity: 0.9;\n");
+        out.append("}\n");
+
+        out.append(".summary-grid {\n");
+        out.append("    display: grid;\n");
+        out.append("    grid-template-columns: repeat(auto-fit, minmax(200px, 1fr));\n");
+        out.append("    gap: 20px;\n");
+        out.append("    margin-bottom: 30px;\n");
+        out.append("}\n");
+
+        out.append(".summary-card {\n");
+        out.append("    background: white;\n");
+        out.append("    padding: 25px;\n");
+        out.append("    border-radius: 10px;\n");
+        out.append("    text-align: center;\n");
+        out.append("    box-shadow: 0 5px 15px rgba(0, 0, 0, 0.08);\n");
+        out.append("    transition: transform 0.3s ease;\n");
+        out.append("}\n");
+
+        out.append(".summary-card:hover {\n");
+        out.append("    transform: translateY(-5px);\n");
+        out.append("}\n");
+
+        out.append(".summary-card h3 {\n");
+        out.append("    font-size: 2em;\n");
+        out.append("    margin-bottom: 10px;\n");
+        out.append("    color: #667eea;\n");
+        out.append("}\n");
+
+        out.append(".summary-card.passed h3 {\n");
+        out.append("    color: #28a745;\n");
+        out.append("}\n");
+
+        out.append(".summary-card.failed h3 {\n");
+        out.append("    color: #dc3545;\n");
+        out.append("}\n");
+
+        out.append(".summary-card.skipped h3 {\n");
+        out.append("    color: #ffc107;\n");
+        out.append("}\n");
+
+        out.append(".charts-section {\n");
+        out.append("    background: white;\n");
+        out.append("    padding: 30px;\n");
+        out.append("    border-radius: 10px;\n");
+        out.append("    margin-bottom: 30px;\n");
+        out.append("    box-shadow: 0 5px 15px rgba(0, 0, 0, 0.08);\n");
+        out.append("}\n");
+
+        out.append(".charts-grid {\n");
+        out.append("    display: grid;\n");
+        out.append("    grid-template-columns: 1fr 1fr;\n");
+        out.append("    gap: 30px;\n");
+        out.append("    margin-top: 20px;\n");
+        out.append("}\n");
+
+        out.append(".chart-container {\n");
+        out.append("    background: #f8f9fa;\n");
+        out.append("    padding: 20px;\n");
+        out.append("    border-radius: 8px;\n");
+        out.append("    height: 300px;\n");
+        out.append("}\n");
+
+        out.append(".results-section, .metrics-section {\n");
+        out.append("    background: white;\n");
+        out.append("    padding: 30px;\n");
+        out.append("    border-radius: 10px;\n");
+        out.append("    box-shadow: 0 5px 15px rgba(0, 0, 0, 0.08);\n");
+        out.append("    margin-bottom: 30px;\n");
+        out.append("}\n");
+
+        out.append(".metrics-table {\n");
+        out.append("    width: 100%;\n");
+        out.append("    border-collapse: collapse;\n");
+        out.append("    font-size: 0.9em;\n");
+        out.append("}\n");
+
+        out.append(".metrics-table td {\n");
+        out.append("    padding: 6px 10px;\n");
+        out.append("    border-bottom: 1px solid #eee;\n");
+        out.append("    word-break: break-all;\n");
+        out.append("}\n");
+
+        out.append(".metrics-table td:first-child {\n");
+        out.append("    font-family: monospace;\n");
+        out.append("    color: #667eea;\n");
+        out.append("    width: 45%;\n");
+        out.append("}\n");
+
+        out.append(".test-result {\n");
+        out.append("    border: 1px solid #dee2e6;\n");
+        out.append("    border-radius: 8px;\n");
+        out.append("    margin-bottom: 15px;\n");
+        out.append("    overflow: hidden;\n");
+        out.append("}\n");
+
+        out.append(".test-header {\n");
+        out.append("    display: flex;\n");
+        out.append("    justify-content: space-between;\n");
+        out.append("    align-items: center;\n");
+        out.append("    padding: 15px 20px;\n");
+        out.append("    background: #f8f9fa;\n");
+        out.append("    cursor: pointer;\n");
+        out.append("    transition: background-color 0.3s ease;\n");
+        out.append("}\n");
+
+        out.append(".test-header:hover {\n");
+        out.append("    background: #e9ecef;\n");
+        out.append("}\n");
+
+        out.append(".test-header.pass {\n");
+        out.append("    border-left: 5px solid #28a745;\n");
+        out.append("}\n");
+
+        out.append(".test-header.fail {\n");
+        out.append("    border-left: 5px solid #dc3545;\n");
+        out.append("}\n");
+
+        out.append(".test-header.skip {\n");
+        out.append("    border-left: 5px solid #ffc107;\n");
+        out.append("}\n");
+
+        out.append(".test-name {\n");
+        out.append("    font-weight: 600;\n");
+        out.append("    color: #333;\n");
+        out.append("}\n");
+
+        out.append(".test-status {\n");
+        out.append("    padding: 5px 12px;\n");
+        out.append("    border-radius: 20px;\n");
+        out.append("    font-size: 0.9em;\n");
+        out.append("    font-weight: 600;\n");
+        out.append("}\n");
+
+        out.append(".status-pass {\n");
+        out.append("    background: #d4edda;\n");
+        out.append("    color: #155724;\n");
+        out.append("}\n");
+
+        out.append(".status-fail {\n");
+        out.append("    background: #f8d7da;\n");
+        out.append("    color: #721c24;\n");
+        out.append("}\n");
+
+        out.append(".status-skip {\n");
+        out.append("    background: #fff3cd;\n");
+        out.append("    color: #856404;\n");
+        out.append("}\n");
+
+        out.append(".test-details {\n");
+        out.append("    padding: 20px;\n");
+        out.append("    display: none;\n");
+        out.append("    background: white;\n");
+        out.append("}\n");
+
+        out.append(".test-details.show {\n");
+        out.append("    display: block;\n");
+        out.append("}\n");
+
+        out.append(".detail-row {\n");
+        out.append("    display: flex;\n");
+        out.append("    margin-bottom: 10px;\n");
+        out.append("}\n");
+
+        out.append(".detail-label {\n");
+        out.append("    font-weight: 600;\n");
+        out.append("    width: 120px;\n");
+        out.append("    color: #667eea;\n");
+        out.append("}\n");
+
+        out.append(".detail-value {\n");
+        out.append("    flex: 1;\n");
+        out.append("}\n");
+
+        out.append(".error-details {\n");
+        out.append("    background: #fff5f5;\n");
+        out.append("    border: 1px solid #fed7d7;\n");
+        out.append("    border-radius: 5px;\n");
+        out.append("    padding: 15px;\n");
+        out.append("    margin-top: 15px;\n");
+        out.append("}\n");
+
+        out.append(".error-details pre {\n");
+        out.append("    margin: 0;\n");
+        out.append("    color: #c53030;\n");
+        out.append("    font-size: 0.9em;\n");
+        out.append("    white-space: pre-wrap;\n");
+        out.append("}\n");
+
+        out.append(".footer {\n");
+        out.append("    text-align: center;\n");
+        out.append("    padding: 20px;\n");
+        out.append("    color: #666;\n");
+        out.append("    margin-top: 30px;\n");
+        out.append("}\n");
+
+        out.append("@media (max-width: 768px) {\n");
+        out.append("    .charts-grid {\n");
+        out.append("        grid-template-columns: 1fr;\n");
+        out.append("    }\n");
+        out.append("    .summary-grid {\n");
+        out.append("        grid-template-columns: repeat(2, 1fr);\n");
+        out.append("    }\n");
+        out.append("}\n");
     }
 
     /**
      * Generate header section
      */
-    private String generateHeader() {
-        StringBuilder header = new StringBuilder();
-
-        header.append("<div class=\"header\">\n");
-        header.append("    <h1>🐾 PetStore API Test Report</h1>\n");
-        header.append("    <p>Comprehensive API Testing Results & Analytics</p>\n");
-        header.append("    <p>Generated on: " + testMetrics.get("executionTime") + "</p>\n");
-        header.append("</div>\n");
-
-        return header.toString();
+    private void writeHeader(Writer out) throws IOException {
+        out.append("<div class=\"header\">\n");
+        out.append("    <h1>🐾 PetStore API Test Report</h1>\n");
+        out.append("    <p>Comprehensive API Testing Results & Analytics</p>\n");
+        out.append("    <p>Generated on: " + testMetrics.get("executionTime") + "</p>\n");
+        out.append("</div>\n");
     }
 
     /**
      * Generate summary section
      */
-    private String generateSummarySection() {
-        StringBuilder summary = new StringBuilder();
-
-        summary.append("<div class=\"container\">\n");
-        summary.append("    <div class=\"summary-grid\">\n");
-        summary.append("        <div class=\"summary-card total\">\n");
-        summary.append("            <h3>" + testMetrics.get("totalTests") + "</h3>\n");
-        summary.append("            <p>Total Tests</p>\n");
-        summary.append("        </div>\n");
-        summary.append("        <div class=\"summary-card passed\">\n");
-        summary.append("            <h3>" + testMetrics.get("passedTests") + "</h3>\n");
-        summary.append("            <p>Passed</p>\n");
-        summary.append("        </div>\n");
-        summary.append("        <div class=\"summary-card failed\">\n");
-        summary.append("            <h3>" + testMetrics.get("failedTests") + "</h3>\n");
-        summary.append("            <p>Failed</p>\n");
-        summary.append("        </div>\n");
-        summary.append("        <div class=\"summary-card skipped\">\n");
-        summary.append("            <h3>" + testMetrics.get("skippedTests") + "</h3>\n");
-        summary.append("            <p>Skipped</p>\n");
-        summary.append("        </div>\n");
-        summary.append("    </div>\n");
-        summary.append("    <div class=\"summary-grid\">\n");
-        summary.append("        <div class=\"summary-card\">\n");
-        summary.append("            <h3>" + testMetrics.get("passRate") + "%</h3>\n");
-        summary.append("            <p>Pass Rate</p>\n");
-        summary.append("        </div>\n");
-        summary.append("        <div class=\"summary-card\">\n");
-        summary.append("            <h3>" + testMetrics.get("totalDuration") + "ms</h3>\n");
-        summary.append("            <p>Total Duration</p>\n");
-        summary.append("        </div>\n");
-        summary.append("        <div class=\"summary-card\">\n");
-        summary.append("            <h3>" + testMetrics.get("averageDuration") + "ms</h3>\n");
-        summary.append("            <p>Average Duration</p>\n");
-        summary.append("        </div>\n");
-        summary.append("    </div>\n");
-        summary.append("</div>\n");
-
-        return summary.toString();
+    private void writeSummarySection(Writer out) throws IOException {
+        out.append("<div class=\"container\">\n");
+        out.append("    <div class=\"summary-grid\">\n");
+        out.append("        <div class=\"summary-card total\">\n");
+        out.append("            <h3>" + testMetrics.get("totalTests") + "</h3>\n");
+        out.append("            <p>Total Tests</p>\n");
+        out.append("        </div>\n");
+        out.append("        <div class=\"summary-card passed\">\n");
+        out.append("            <h3>" + testMetrics.get("passedTests") + "</h3>\n");
+        out.append("            <p>Passed</p>\n");
+        out.append("        </div>\n");
+        out.append("        <div class=\"summary-card failed\">\n");
+        out.append("            <h3>" + testMetrics.get("failedTests") + "</h3>\n");
+        out.append("            <p>Failed</p>\n");
+        out.append("        </div>\n");
+        out.append("        <div class=\"summary-card skipped\">\n");
+        out.append("            <h3>" + testMetrics.get("skippedTests") + "</h3>\n");
+        out.append("            <p>Skipped</p>\n");
+        out.append("        </div>\n");
+        out.append("    </div>\n");
+        out.append("    <div class=\"summary-grid\">\n");
+        out.append("        <div class=\"summary-card\">\n");
+        out.append("            <h3>" + testMetrics.get("passRate") + "%</h3>\n");
+        out.append("            <p>Pass Rate</p>\n");
+        out.append("        </div>\n");
+        out.append("        <div class=\"summary-card\">\n");
+        out.append("            <h3>" + testMetrics.get("totalDuration") + "ms</h3>\n");
+        out.append("            <p>Total Duration</p>\n");
+        out.append("        </div>\n");
+        out.append("        <div class=\"summary-card\">\n");
+        out.append("            <h3>" + testMetrics.get("averageDuration") + "ms</h3>\n");
+        out.append("            <p>Average Duration</p>\n");
+        out.append("        </div>\n");
+        out.append("    </div>\n");
+        out.append("</div>\n");
     }
 
     /**
      * Generate charts section
      */
-    private String generateChartsSection() {
-        StringBuilder charts = new StringBuilder();
-
-        charts.append("<div class=\"container\">\n");
-        charts.append("    <div class=\"charts-section\">\n");
-        charts.append("        <h2 style=\"margin-bottom: 20px; color: #333;\">📊 Test Results Analytics</h2>\n");
-        charts.append("        <div class=\"charts-grid\">\n");
-        charts.append("            <div class=\"chart-container\">\n");
-        charts.append("                <canvas id=\"pieChart\"></canvas>\n");
-        charts.append("            </div>\n");
-        charts.append("            <div class=\"chart-container\">\n");
-        charts.append("                <canvas id=\"barChart\"></canvas>\n");
-        charts.append("            </div>\n");
-        charts.append("        </div>\n");
-        charts.append("    </div>\n");
-        charts.append("</div>\n");
-        charts.append("<script>\n");
-        charts.append("// Pie Chart\n");
-        charts.append("const pieCtx = document.getElementById('pieChart').getContext('2d');\n");
-        charts.append("new Chart(pieCtx, {\n");
-        charts.append("    type: 'doughnut',\n");
-        charts.append("    data: {\n");
-        charts.append("        labels: ['Passed', 'Failed', 'Skipped'],\n");
-        charts.append("        datasets: [{\n");
-        charts.append("            data: [" + testMetrics.get("passedTests") + ", " + testMetrics.get("failedTests") + ", " + testMetrics.get("skippedTests") + "],\n");
-        charts.append("            backgroundColor: ['#28a745', '#dc3545', '#ffc107'],\n");
-        charts.append("            borderWidth: 2,\n");
-        charts.append("            borderColor: '#fff'\n");
-        charts.append("        }]\n");
-        charts.append("    },\n");
-        charts.append("    options: {\n");
-        charts.append("        responsive: true,\n");
-        charts.append("        maintainAspectRatio: false,\n");
-        charts.append("        plugins: {\n");
-        charts.append("            legend: {\n");
-        charts.append("                position: 'bottom'\n");
-        charts.append("            },\n");
-        charts.append("            title: {\n");
-        charts.append("                display: true,\n");
-        charts.append("                text: 'Test Results Distribution'\n");
-        charts.append("            }\n");
-        charts.append("        }\n");
-        charts.append("    }\n");
-        charts.append("});\n");
-        charts.append("// Bar Chart\n");
-        charts.append("const barCtx = document.getElementById('barChart').getContext('2d');\n");
-        charts.append("new Chart(barCtx, {\n");
-        charts.append("    type: 'bar',\n");
-        charts.append("    data: {\n");
-        charts.append("        labels: ['Total Tests', 'Passed', 'Failed', 'Skipped'],\n");
-        charts.append("        datasets: [{\n");
-        charts.append("            label: 'Test Count',\n");
-        charts.append("            data: [" + testMetrics.get("totalTests") + ", " + testMetrics.get("passedTests") + ", " + testMetrics.get("failedTests") + ", " + testMetrics.get("skippedTests") + "],\n");
-        charts.append("            backgroundColor: ['#007bff', '#28a745', '#dc3545', '#ffc107'],\n");
-        charts.append("            borderWidth: 1,\n");
-        charts.append("            borderColor: '#fff'\n");
-        charts.append("        }]\n");
-        charts.append("    },\n");
-        charts.append("    options: {\n");
-        charts.append("        responsive: true,\n");
-        charts.append("        maintainAspectRatio: false,\n");
-        charts.append("        plugins: {\n");
-        charts.append("            legend: {\n");
-        charts.append("                display: false\n");
-        charts.append("            },\n");
-        charts.append("            title: {\n");
-        charts.append("                display: true,\n");
-        charts.append("                text: 'Test Results Overview'\n");
-        charts.append("            }\n");
-        charts.append("        },\n");
-        charts.append("        scales: {\n");
-        charts.append("            y: {\n");
-        charts.append("                beginAtZero: true\n");
-        charts.append("            }\n");
-        charts.append("        }\n");
-        charts.append("    }\n");
-        charts.append("});\n");
-        charts.append("</script>\n");
-
-        return charts.toString();
+    private void writeChartsSection(Writer out) throws IOException {
+        out.append("<div class=\"container\">\n");
+        out.append("    <div class=\"charts-section\">\n");
+        out.append("        <h2 style=\"margin-bottom: 20px; color: #333;\">📊 Test Results Analytics</h2>\n");
+        out.append("        <div class=\"charts-grid\">\n");
+        out.append("            <div class=\"chart-container\">\n");
+        out.append("                <canvas id=\"pieChart\"></canvas>\n");
+        out.append("            </div>\n");
+        out.append("            <div class=\"chart-container\">\n");
+        out.append("                <canvas id=\"barChart\"></canvas>\n");
+        out.append("            </div>\n");
+        out.append("        </div>\n");
+        out.append("    </div>\n");
+        out.append("</div>\n");
+        out.append("<script>\n");
+        out.append("// Pie Chart\n");
+        out.append("const pieCtx = document.getElementById('pieChart').getContext('2d');\n");
+        out.append("new Chart(pieCtx, {\n");
+        out.append("    type: 'doughnut',\n");
+        out.append("    data: {\n");
+        out.append("        labels: ['Passed', 'Failed', 'Skipped'],\n");
+        out.append("        datasets: [{\n");
+        out.append("            data: [" + testMetrics.get("passedTests") + ", " + testMetrics.get("failedTests") + ", " + testMetrics.get("skippedTests") + "],\n");
+        out.append("            backgroundColor: ['#28a745', '#dc3545', '#ffc107'],\n");
+        out.append("            borderWidth: 2,\n");
+        out.append("            borderColor: '#fff'\n");
+        out.append("        }]\n");
+        out.append("    },\n");
+        out.append("    options: {\n");
+        out.append("        responsive: true,\n");
+        out.append("        maintainAspectRatio: false,\n");
+        out.append("        plugins: {\n");
+        out.append("            legend: {\n");
+        out.append("                position: 'bottom'\n");
+        out.append("            },\n");
+        out.append("            title: {\n");
+        out.append("                display: true,\n");
+        out.append("                text: 'Test Results Distribution'\n");
+        out.append("            }\n");
+        out.append("        }\n");
+        out.append("    }\n");
+        out.append("});\n");
+        out.append("// Bar Chart\n");
+        out.append("const barCtx = document.getElementById('barChart').getContext('2d');\n");
+        out.append("new Chart(barCtx, {\n");
+        out.append("    type: 'bar',\n");
+        out.append("    data: {\n");
+        out.append("        labels: ['Total Tests', 'Passed', 'Failed', 'Skipped'],\n");
+        out.append("        datasets: [{\n");
+        out.append("            label: 'Test Count',\n");
+        out.append("            data: [" + testMetrics.get("totalTests") + ", " + testMetrics.get("passedTests") + ", " + testMetrics.get("failedTests") + ", " + testMetrics.get("skippedTests") + "],\n");
+        out.append("            backgroundColor: ['#007bff', '#28a745', '#dc3545', '#ffc107'],\n");
+        out.append("            borderWidth: 1,\n");
+        out.append("            borderColor: '#fff'\n");
+        out.append("        }]\n");
+        out.append("    },\n");
+        out.append("    options: {\n");
+        out.append("        responsive: true,\n");
+        out.append("        maintainAspectRatio: false,\n");
+        out.append("        plugins: {\n");
+        out.append("            legend: {\n");
+        out.append("                display: false\n");
+        out.append("            },\n");
+        out.append("            title: {\n");
+        out.append("                display: true,\n");
+        out.append("                text: 'Test Results Overview'\n");
+        out.append("            }\n");
+        out.append("        },\n");
+        out.append("        scales: {\n");
+        out.append("            y: {\n");
+        out.append("                beginAtZero: true\n");
+        out.append("            }\n");
+        out.append("        }\n");
+        out.append("    }\n");
+        out.append("});\n");
+        out.append("</script>\n");
+    }
+
+    /**
+     * Generate run metrics section: every metric added with addMetric (pool, latency, retry, breaker, ...),
+     * sorted by key so each subsystem's metrics are listed together
+     */
+    private void writeMetricsSection(Writer out) throws IOException {
+        Map<String, Object> metrics = new TreeMap<>(testMetrics);
+        metrics.keySet().removeAll(SUMMARY_METRICS);
+        if (metrics.isEmpty()) {
+            return;
+        }
+        out.append("<div class=\"container\">\n");
+        out.append("    <div class=\"metrics-section\">\n");
+        out.append("        <h2 style=\"margin-bottom: 20px; color: #333;\">📈 Run Metrics</h2>\n");
+        out.append("        <table class=\"metrics-table\">\n");
+        for (Map.Entry<String, Object> entry : metrics.entrySet()) {
+            out.append("            <tr><td>").append(escapeHtml(entry.getKey())).append("</td><td>")
+                    .append(escapeHtml(String.valueOf(entry.getValue()))).append("</td></tr>\n");
+        }
+        out.append("        </table>\n");
+        out.append("    </div>\n");
+        out.append("</div>\n");
+    }
+
+    private static String escapeHtml(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
     }
 
     /**
      * Generate detailed results section
      */
-    private String generateDetailedResultsSection() {
-        StringBuilder section = new StringBuilder();
-        section.append("<div class=\"container\">\n");
-        section.append("    <div class=\"results-section\">\n");
-        section.append("        <h2 style=\"margin-bottom: 20px; color: #333;\">📋 Detailed Test Results</h2>\n");
+    private void writeDetailedResultsSection(Writer out) throws IOException {
+        out.append("<div class=\"container\">\n");
+        out.append("    <div class=\"results-section\">\n");
+        out.append("        <h2 style=\"margin-bottom: 20px; color: #333;\">📋 Detailed Test Results</h2>\n");
         for (TestResult result : testResults) {
-            section.append(generateTestResultHtml(result));
+            writeTestResult(out, result);
         }
-        section.append("    </div>\n");
-        section.append("</div>\n");
-        section.append("<script>\n");
-        section.append("function toggleDetails(element) {\n");
-        section.append("    const details = element.nextElementSibling;\n");
-        section.append("    details.classList.toggle('show');\n");
-        section.append("}\n");
-        section.append("</script>\n");
-
-        return section.toString();
+        out.append("    </div>\n");
+        out.append("</div>\n");
+        out.append("<script>\n");
+        out.append("function toggleDetails(element) {\n");
+        out.append("    const details = element.nextElementSibling;\n");
+        out.append("    details.classList.toggle('show');\n");
+        out.append("}\n");
+        out.append("</script>\n");
     }
 
     /**
      * Generate individual test result HTML
      */
-    private String generateTestResultHtml(TestResult result) {
-        StringBuilder html = new StringBuilder();
-
+    private void writeTestResult(Writer out, TestResult result) throws IOException {
         String statusClass = result.getStatus().toLowerCase();
         String statusDisplay = result.getStatus().toUpperCase();
 
-        html.append("<div class=\"test-result\">\n");
-        html.append("    <div class=\"test-header ").append(statusClass).append("\" onclick=\"toggleDetails(this)\">\n");
-        html.append("        <div class=\"test-name\">").append(result.getTestName()).append("</div>\n");
-        html.append("        <div class=\"test-status status-").append(statusClass).append("\">").append(statusDisplay).append("</div>\n");
-        html.append("    </div>\n");
-        html.append("    <div class=\"test-details\">\n");
+        out.append("<div class=\"test-result\">\n");
+        out.append("    <div class=\"test-header ").append(statusClass).append("\" onclick=\"toggleDetails(this)\">\n");
+        out.append("        <div class=\"test-name\">").append(result.getTestName()).append("</div>\n");
+        out.append("        <div class=\"test-status status-").append(statusClass).append("\">").append(statusDisplay).append("</div>\n");
+        out.append("    </div>\n");
+        out.append("    <div class=\"test-details\">\n");
 
         // Test details
-        html.append("        <div class=\"detail-row\">\n");
-        html.append("            <div class=\"detail-label\">Class:</div>\n");
-        html.append("            <div class=\"detail-value\">").append(result.getTestClass()).append("</div>\n");
-        html.append("        </div>\n");
+        out.append("        <div class=\"detail-row\">\n");
+        out.append("            <div class=\"detail-label\">Class:</div>\n");
+        out.append("            <div class=\"detail-value\">").append(result.getTestClass()).append("</div>\n");
+        out.append("        </div>\n");
 
         if (result.getDescription() != null) {
-            html.append("        <div class=\"detail-row\">\n");
-            html.append("            <div class=\"detail-label\">Description:</div>\n");
-            html.append("            <div class=\"detail-value\">").append(result.getDescription()).append("</div>\n");
-            html.append("        </div>\n");
+            out.append("        <div class=\"detail-row\">\n");
+            out.append("            <div class=\"detail-label\">Description:</div>\n");
+            out.append("            <div class=\"detail-value\">").append(result.getDescription()).append("</div>\n");
+            out.append("        </div>\n");
         }
 
-        html.append("        <div class=\"detail-row\">\n");
-        html.append("            <div class=\"detail-label\">Duration:</div>\n");
-        html.append("            <div class=\"detail-value\">").append(result.getDuration()).append(" ms</div>\n");
-        html.append("        </div>\n");
+        out.append("        <div class=\"detail-row\">\n");
+        out.append("            <div class=\"detail-label\">Duration:</div>\n");
+        out.append("            <div class=\"detail-value\">").append(String.valueOf(result.getDuration())).append(" ms</div>\n");
+        out.append("        </div>\n");
 
         if (result.getStartTime() != null) {
-            html.append("        <div class=\"detail-row\">\n");
-            html.append("            <div class=\"detail-label\">Start Time:</div>\n");
-            html.append("            <div class=\"detail-value\">").append(result.getStartTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("</div>\n");
-            html.append("        </div>\n");
+            out.append("        <div class=\"detail-row\">\n");
+            out.append("            <div class=\"detail-label\">Start Time:</div>\n");
+            out.append("            <div class=\"detail-value\">").append(result.getStartTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("</div>\n");
+            out.append("        </div>\n");
         }
 
         if (result.getEndTime() != null) {
-            html.append("        <div class=\"detail-row\">\n");
-            html.append("            <div class=\"detail-label\">End Time:</div>\n");
-            html.append("            <div class=\"detail-value\">").append(result.getEndTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("</div>\n");
-            html.append("        </div>\n");
+            out.append("        <div class=\"detail-row\">\n");
+            out.append("            <div class=\"detail-label\">End Time:</div>\n");
+            out.append("            <div class=\"detail-value\">").append(result.getEndTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("</div>\n");
+            out.append("        </div>\n");
         }
 
         // Test data
         if (!result.getTestData().isEmpty()) {
-            html.append("        <div class=\"detail-row\">\n");
-            html.append("            <div class=\"detail-label\">Test Data:</div>\n");
-            html.append("            <div class=\"detail-value\">\n");
-            for (Map.Entry<String, String> entry : result.getTestData().entrySet()) {
-                html.append("                <div><strong>").append(entry.getKey()).append(":</strong> ").append(entry.getValue()).append("</div>\n");
+            out.append("        <div class=\"detail-row\">\n");
+            out.append("            <div class=\"detail-label\">Test Data:</div>\n");
+            out.append("            <div class=\"detail-value\">\n");
+            Map<String, String> testData = result.getTestData();
+            synchronized (testData) {
+                for (Map.Entry<String, String> entry : testData.entrySet()) {
+                    out.append("                <div><strong>").append(entry.getKey()).append(":</strong> ").append(entry.getValue()).append("</div>\n");
+                }
             }
-            html.append("            </div>\n");
-            html.append("        </div>\n");
+            out.append("            </div>\n");
+            out.append("        </div>\n");
         }
 
         // API calls
         if (!result.getApiCalls().isEmpty()) {
-            html.append("        <div class=\"detail-row\">\n");
-            html.append("            <div class=\"detail-label\">API Calls:</div>\n");
-            html.append("            <div class=\"detail-value\">\n");
-            for (String apiCall : result.getApiCalls()) {
-                html.append("                <div>").append(apiCall).append("</div>\n");
+            out.append("        <div class=\"detail-row\">\n");
+            out.append("            <div class=\"detail-label\">API Calls:</div>\n");
+            out.append("            <div class=\"detail-value\">\n");
+            List<String> apiCalls = result.getApiCalls();
+            synchronized (apiCalls) {
+                for (String apiCall : apiCalls) {
+                    out.append("                <div>").append(apiCall).append("</div>\n");
+                }
             }
-            html.append("            </div>\n");
-            html.append("        </div>\n");
+            out.append("            </div>\n");
+            out.append("        </div>\n");
         }
 
         // Error details
         if (result.getErrorMessage() != null || result.getStackTrace() != null) {
-            html.append("        <div class=\"error-details\">\n");
+            out.append("        <div class=\"error-details\">\n");
             if (result.getErrorMessage() != null) {
-                html.append("            <div><strong>Error:</strong> ").append(result.getErrorMessage()).append("</div>\n");
+                out.append("            <div><strong>Error:</strong> ").append(result.getErrorMessage()).append("</div>\n");
             }
             if (result.getStackTrace() != null) {
-                html.append("            <pre>").append(result.getStackTrace()).append("</pre>\n");
+                out.append("            <pre>").append(result.getStackTrace()).append("</pre>\n");
             }
-            html.append("        </div>\n");
+            out.append("        </div>\n");
         }
 
-        html.append("    </div>\n");
-        html.append("</div>\n");
-
-        return html.toString();
+        out.append("    </div>\n");
+        out.append("</div>\n");
     }
 
     /**
      * Generate footer
      */
-    private String generateFooter() {
-        StringBuilder footer = new StringBuilder();
-        footer.append("<div class=\"footer\">\n");
-        footer.append("    <p>Generated by PetStore API Test Framework | ").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("</p>\n");
-        footer.append("</div>\n");
-        return footer.toString();
+    private void writeFooter(Writer out) throws IOException {
+        out.append("<div class=\"footer\">\n");
+        out.append("    <p>Generated by PetStore API Test Framework | ").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("</p>\n");
+        out.append("</div>\n");
     }
 
     // Getters
@@ -1,5 +1,16 @@
 package com.petstore.framework.reporting;
 
+import com.petstore.framework.cassette.CassetteManager;
+import com.petstore.framework.core.ConnectionPoolManager;
+import com.petstore.framework.core.RequestCoalescer;
+import com.petstore.framework.core.ResponseCache;
+import com.petstore.framework.core.RestAssuredManager;
+import com.petstore.framework.metrics.LatencyRecorder;
+import com.petstore.framework.metrics.TimeoutCounter;
+import com.petstore.framework.resilience.CircuitBreakerRegistry;
+import com.petstore.framework.stub.StubServerHook;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -10,12 +21,13 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Custom TestNG Listener for PetStore API Test Framework
- * Automatically collects test results and generates custom reports
+ * Automatically collects test results and generates one custom report per suite
  */
-public class CustomReportListener implements ITestListener {
+public class CustomReportListener implements ITestListener, ISuiteListener {
     private static final Logger logger = LogManager.getLogger(CustomReportListener.class);
     private final CustomReportGenerator reportGenerator;
     private final ConcurrentHashMap<String, CustomReportGenerator.TestResult> testResults;
+    private volatile long suiteStartMillis;
     
     public CustomReportListener() {
         this.reportGenerator = new CustomReportGenerator();
@@ -116,16 +128,30 @@ public class CustomReportListener implements ITestListener {
     
     @Override
     public void onStart(ITestContext context) {
-        logger.info("Test suite started: {}", context.getName());
+        logger.info("Test started: {}", context.getName());
+    }
+    
+    @Override
+    public void onFinish(ITestContext context) {
+        logger.info("Test finished: {}", context.getName());
+    }
+    
+    @Override
+    public void onStart(ISuite suite) {
+        logger.info("Test suite started: {}", suite.getName());
+        suiteStartMillis = System.currentTimeMillis();
         
         // Add suite information to metrics
-        reportGenerator.addMetric("suiteName", context.getName());
+        reportGenerator.addMetric("suiteName", suite.getName());
         reportGenerator.addMetric("suiteStartTime", java.time.LocalDateTime.now());
     }
     
+    /**
+     * Collect run-wide metrics and generate the report once, after every {@code <test>} of the suite
+     */
     @Override
-    public void onFinish(ITestContext context) {
-        logger.info("Test suite finished: {}", context.getName());
+    public void onFinish(ISuite suite) {
+        logger.info("Test suite finished: {}", suite.getName());
         
         // Add all test results to the report generator
         for (CustomReportGenerator.TestResult testResult : testResults.values()) {
@@ -134,7 +160,25 @@ public class CustomReportListener implements ITestListener {
         
         // Add suite completion metrics
         reportGenerator.addMetric("suiteEndTime", java.time.LocalDateTime.now());
-        reportGenerator.addMetric("suiteDuration", context.getEndDate().getTime() - context.getStartDate().getTime());
+        reportGenerator.addMetric("suiteDuration", System.currentTimeMillis() - suiteStartMillis);
+        
+        // Add HTTP connection pool, request spec cache, retry, rate limit, circuit breaker and timeout statistics
+        ConnectionPoolManager.getInstance().getPoolMetrics().forEach(reportGenerator::addMetric);
+        RestAssuredManager.getInstance().getRequestSpecCacheStats().forEach(reportGenerator::addMetric);
+        RestAssuredManager.getInstance().getRetryStats().forEach(reportGenerator::addMetric);
+        RestAssuredManager.getInstance().getRateLimitStats().forEach(reportGenerator::addMetric);
+        CircuitBreakerRegistry.getInstance().getMetrics().forEach(reportGenerator::addMetric);
+        TimeoutCounter.getInstance().getMetrics().forEach(reportGenerator::addMetric);
+        StubServerHook.getFaultInjectionMetrics().forEach(reportGenerator::addMetric);
+        CassetteManager.getInstance().getMetrics().forEach(reportGenerator::addMetric);
+        ResponseCache.getInstance().getMetrics().forEach(reportGenerator::addMetric);
+        RequestCoalescer.getInstance().getMetrics().forEach(reportGenerator::addMetric);
+        
+        // Add per-endpoint latency percentiles; one snapshot per suite, so the histogram log gets one interval
+        LatencyRecorder.getInstance().getLatencyMetrics().forEach(reportGenerator::addMetric);
+        
+        // Add async reporting pipeline statistics
+        ReportManager.getInstance().getReportingMetrics().forEach(reportGenerator::addMetric);
         
         // Generate the report
         String reportPath = reportGenerator.generateReport();
@@ -6,56 +6,95 @@ import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.core.RequestIdGenerator;
 import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Comprehensive Reporting Manager
  * Integrates ExtentReports and Allure for detailed HTML reports and dashboard integration
+ * ExtentReports is only touched by the report writer, in the order events were logged; Allure entries are
+ * registered on the calling thread (its test context is thread-bound) and their content written by the writer
  */
-public class ReportManager implements ITestListener {
+public class ReportManager implements ITestListener, ISuiteListener {
     private static final Logger logger = LogManager.getLogger(ReportManager.class);
-    private static ReportManager instance;
-    private ExtentReports extentReports;
-    private Map<String, ExtentTest> testMap;
+    private static final long REPORT_FLUSH_TIMEOUT_MS = 30000;
+    private final ExtentReports extentReports;
+    private final Map<String, ExtentTest> testMap;
     private final TestConfig config;
     private final String reportPath;
     private final CustomReportGenerator reportGenerator;
     private final ConcurrentHashMap<String, CustomReportGenerator.TestResult> currentTests;
+    private final AsyncReportWriter reportWriter;
     
+    /**
+     * Listener instance for TestNG; it shares the singleton's reports, test map and report writer,
+     * so the tests it starts are the ones the API services log to
+     */
     public ReportManager() {
-        // No-op constructor for TestNG
-        this.config = TestConfig.getInstance();
+        this(getInstance());
+    }
+    
+    private ReportManager(ReportManager shared) {
+        this.config = shared.config;
+        this.reportPath = shared.reportPath;
+        this.testMap = shared.testMap;
+        this.reportGenerator = shared.reportGenerator;
+        this.currentTests = shared.currentTests;
+        this.reportWriter = shared.reportWriter;
+        this.extentReports = shared.extentReports;
+    }
+    
+    private ReportManager(TestConfig config) {
+        this.config = config;
         this.reportPath = config.getReportPath();
-        this.testMap = new HashMap<>();
+        this.testMap = new ConcurrentHashMap<>();
         this.reportGenerator = new CustomReportGenerator();
         this.currentTests = new ConcurrentHashMap<>();
-        initializeExtentReports();
+        this.reportWriter = createReportWriter();
+        this.extentReports = initializeExtentReports();
+        // Runs without the listener (e.g. -Dtest=...) still get queued events written and flushed
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "report-manager-shutdown"));
+    }
+    
+    private static class Holder {
+        private static final ReportManager INSTANCE = new ReportManager(TestConfig.getInstance());
     }
     
-    public static synchronized ReportManager getInstance() {
-        if (instance == null) {
-            instance = new ReportManager();
+    public static ReportManager getInstance() {
+        return Holder.INSTANCE;
+    }
+    
+    private AsyncReportWriter createReportWriter() {
+        if (!config.isAsyncReporting()) {
+            return null;
         }
-        return instance;
+        AsyncReportWriter.BackPressurePolicy policy = AsyncReportWriter.BackPressurePolicy.valueOf(
+                config.getReportingBackPressure().toUpperCase());
+        return new AsyncReportWriter(config.getReportingQueueCapacity(), policy, config.getReportingSampleRate());
     }
     
-    private void initializeExtentReports() {
-        extentReports = new ExtentReports();
+    private ExtentReports initializeExtentReports() {
+        ExtentReports extentReports = new ExtentReports();
         
         // Create reports directory if it doesn't exist
         File reportDir = new File(reportPath);
@@ -79,19 +118,20 @@ public class ReportManager implements ITestListener {
         extentReports.setSystemInfo("Base URL", config.getBaseUrl());
         extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
         extentReports.setSystemInfo("OS", System.getProperty("os.name"));
+        extentReports.setSystemInfo("Execution Mode", config.getExecutionMode());
         extentReports.setSystemInfo("User", System.getProperty("user.name"));
         
         extentReports.attachReporter(sparkReporter);
         
         logger.info("ExtentReports initialized: {}", reportFilePath);
+        return extentReports;
     }
     
     /**
      * Start test in ExtentReports
      */
-    public ExtentTest startTest(String testName, String description) {
-        ExtentTest test = extentReports.createTest(testName, description);
-        testMap.put(testName, test);
+    public void startTest(String testName, String description) {
+        submit(() -> testMap.put(testName, extentReports.createTest(testName, description)));
         
         // Add to Allure
         Allure.getLifecycle().updateTestCase(testResult -> {
@@ -100,17 +140,18 @@ public class ReportManager implements ITestListener {
         });
         
         logger.info("Started test: {}", testName);
-        return test;
     }
     
     /**
      * Log test step
      */
     public void logStep(String testName, Status status, String stepName, String details) {
-        ExtentTest test = testMap.get(testName);
-        if (test != null) {
-            test.log(status, stepName + ": " + details);
-        }
+        submit(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null) {
+                test.log(status, stepName + ": " + details);
+            }
+        });
         
         // Add to Allure
         Allure.step(stepName + ": " + details, () -> {
@@ -122,68 +163,124 @@ public class ReportManager implements ITestListener {
     
     /**
      * Log API request/response
+     * Allure attachments are registered on the calling thread (Allure context is thread-bound);
+     * their content, the ExtentReports entries and the log line are written by the report writer.
+     * Events dropped by back-pressure keep their Allure attachment entries without content
      */
     public void logApiCall(String testName, String method, String url, String requestBody, 
                           String responseBody, int statusCode, long responseTime) {
-        ExtentTest test = testMap.get(testName);
-        if (test != null) {
-            test.info("API Call Details:");
-            test.info("Method: " + method);
-            test.info("URL: " + url);
-            if (requestBody != null && !requestBody.isEmpty()) {
-                test.info("Request Body: " + requestBody);
-            }
-            test.info("Response Status: " + statusCode);
-            test.info("Response Time: " + responseTime + "ms");
-            if (responseBody != null && !responseBody.isEmpty()) {
-                test.info("Response Body: " + responseBody);
-            }
+        logApiExchange(testName, method, url, ApiBody.of(requestBody), ApiBody.of(responseBody), statusCode, responseTime);
+    }
+    
+    /**
+     * Log API request/response with bodies in whichever form the caller already holds (e.g. the raw
+     * bytes sent and received); conversion to text or bytes happens on the report writer
+     */
+    public void logApiExchange(String testName, String method, String url, ApiBody requestBody, 
+                              ApiBody responseBody, int statusCode, long responseTime) {
+        logApiExchange(testName, method, url, requestBody, responseBody, statusCode, responseTime,
+                RequestIdGenerator.lastIssuedId());
+    }
+    
+    /**
+     * Log API request/response tagged with the X-Request-ID it was sent with
+     * (blocking calls default to the last ID issued on the calling thread; async callers pass it explicitly)
+     */
+    public void logApiExchange(String testName, String method, String url, ApiBody requestBody, 
+                              ApiBody responseBody, int statusCode, long responseTime, String requestId) {
+        if (reportWriter != null && !reportWriter.admit()) {
+            return;
         }
         
-        // Add to Allure
-        Allure.addAttachment("API Request", "application/json", requestBody != null ? requestBody : "");
-        Allure.addAttachment("API Response", "application/json", responseBody != null ? responseBody : "");
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String requestSource = lifecycle.prepareAttachment("API Request", "application/json", "");
+        String responseSource = lifecycle.prepareAttachment("API Response", "application/json", "");
         
-        logger.info("API call logged: {} {} - Status: {} - Time: {}ms", method, url, statusCode, responseTime);
+        submit(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null) {
+                test.info("API Call Details:");
+                test.info("Method: " + method);
+                test.info("URL: " + url);
+                if (requestId != null) {
+                    test.info("Request ID: " + requestId);
+                }
+                if (!requestBody.isEmpty()) {
+                    test.info("Request Body: " + requestBody.asText());
+                }
+                test.info("Response Status: " + statusCode);
+                test.info("Response Time: " + responseTime + "ms");
+                if (!responseBody.isEmpty()) {
+                    test.info("Response Body: " + responseBody.asText());
+                }
+            }
+            
+            lifecycle.writeAttachment(requestSource, new ByteArrayInputStream(requestBody.asBytes()));
+            lifecycle.writeAttachment(responseSource, new ByteArrayInputStream(responseBody.asBytes()));
+            
+            logger.info("API call logged: {} {} - Status: {} - Time: {}ms - Request ID: {}",
+                    method, url, statusCode, responseTime, requestId);
+        });
+    }
+    
+    private void submit(Runnable event) {
+        if (reportWriter != null) {
+            reportWriter.submit(event);
+        } else {
+            event.run();
+        }
     }
     
     /**
      * Log screenshot
      */
     public void logScreenshot(String testName, String screenshotPath, String description) {
-        ExtentTest test = testMap.get(testName);
-        if (test != null && new File(screenshotPath).exists()) {
-            test.addScreenCaptureFromPath(screenshotPath, description);
-        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(description, "image/png", "");
         
-        // Add to Allure
-        Allure.addAttachment(description, "image/png", screenshotPath);
+        submit(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null && new File(screenshotPath).exists()) {
+                test.addScreenCaptureFromPath(screenshotPath, description);
+            }
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(screenshotPath.getBytes(StandardCharsets.UTF_8)));
+        });
     }
     
     /**
-     * Log test data
+     * Log test data (values are converted to text on the calling thread)
      */
     public void logTestData(String testName, Map<String, Object> testData) {
-        ExtentTest test = testMap.get(testName);
-        if (test != null) {
-            test.info("Test Data:");
-            testData.forEach((key, value) -> test.info(key + ": " + value));
-        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> sources = new LinkedHashMap<>();
+        testData.forEach((key, value) -> {
+            values.put(key, String.valueOf(value));
+            sources.put(key, lifecycle.prepareAttachment(key, "text/plain", ""));
+        });
         
-        // Add to Allure
-        testData.forEach((key, value) -> 
-            Allure.addAttachment(key, "text/plain", String.valueOf(value)));
+        submit(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null) {
+                test.info("Test Data:");
+                values.forEach((key, value) -> test.info(key + ": " + value));
+            }
+            values.forEach((key, value) -> lifecycle.writeAttachment(sources.get(key),
+                    new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8))));
+        });
     }
     
     /**
      * End test
      */
     public void endTest(String testName, Status status, String details) {
-        ExtentTest test = testMap.get(testName);
-        if (test != null) {
-            test.log(status, details);
-            testMap.remove(testName);
-        }
+        // Queued behind the test's earlier entries so the report keeps their order
+        submit(() -> {
+            ExtentTest test = testMap.remove(testName);
+            if (test != null) {
+                test.log(status, details);
+            }
+        });
         
         logger.info("Ended test: {} - Status: {}", testName, status);
     }
@@ -192,10 +289,31 @@ public class ReportManager implements ITestListener {
      * Flush and close reports
      */
     public void flushReports() {
-        if (extentReports != null) {
+        submit(() -> {
             extentReports.flush();
             logger.info("ExtentReports flushed successfully");
+        });
+        if (reportWriter != null) {
+            reportWriter.flush(REPORT_FLUSH_TIMEOUT_MS);
+        }
+    }
+    
+    /**
+     * Write every queued event, stop the report writer and flush the reports
+     * Events logged afterwards are written inline
+     */
+    public void shutdown() {
+        if (reportWriter != null) {
+            reportWriter.shutdown(REPORT_FLUSH_TIMEOUT_MS);
         }
+        submit(extentReports::flush);
+    }
+    
+    /**
+     * Get async reporting pipeline statistics as report metrics
+     */
+    public Map<String, Object> getReportingMetrics() {
+        return reportWriter != null ? reportWriter.getMetrics() : Map.of("reporting.policy", "SYNC");
     }
     
     /**
@@ -256,6 +374,11 @@ public class ReportManager implements ITestListener {
         flushReports();
     }
     
+    @Override
+    public void onFinish(ISuite suite) {
+        shutdown();
+    }
+    
     /**
      * Test Summary class for JSON serialization
      */
@@ -393,7 +516,7 @@ public class ReportManager implements ITestListener {
      * Get current thread ID
      */
     private String getCurrentThreadId() {
-        return String.valueOf(Thread.currentThread().getId());
+        return String.valueOf(Thread.currentThread().threadId());
     }
     
     /**
@@ -0,0 +1,168 @@
+package com.petstore.framework.resilience;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Count-based circuit breaker for a single endpoint
+ * CLOSED keeps the outcome of the last windowSize calls and opens once minimumCalls have completed and the
+ * failure or slow-call rate reaches its threshold; OPEN rejects calls until openDuration has passed, then
+ * HALF_OPEN lets halfOpenCalls trial calls through and closes or re-opens depending on their outcome.
+ * The CLOSED fast path is a volatile read; outcomes are recorded under the breaker's own monitor
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final Consumer<String> transitionListener;
+
+    private final byte[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private int windowSlowCalls;
+    private int halfOpenPermitted;
+    private int halfOpenCompleted;
+    private int halfOpenFailures;
+    private int halfOpenSlowCalls;
+    private long openedAtNanos;
+    private volatile State state = State.CLOSED;
+
+    private final LongAdder rejected = new LongAdder();
+    private final List<String> transitions = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param failureRateThreshold  failure percentage (exceptions and 5xx) that opens the circuit
+     * @param slowCallRateThreshold percentage of calls slower than slowCallNanos that opens the circuit
+     * @param transitionListener    notified with a description of every state transition
+     */
+    public CircuitBreaker(String name, int failureRateThreshold, int slowCallRateThreshold, long slowCallNanos,
+                          int windowSize, int minimumCalls, long openDurationNanos, int halfOpenCalls,
+                          Consumer<String> transitionListener) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallNanos;
+        this.window = new byte[Math.max(1, windowSize)];
+        this.minimumCalls = Math.min(Math.max(1, minimumCalls), window.length);
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * Ask permission for a call; false means the circuit is open and the call must not be sent
+     */
+    public boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    rejected.increment();
+                    return false;
+                }
+                halfOpenPermitted = 0;
+                halfOpenCompleted = 0;
+                halfOpenFailures = 0;
+                halfOpenSlowCalls = 0;
+                transition(State.HALF_OPEN, "open for " + openDurationNanos / 1_000_000 + "ms");
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermitted >= halfOpenCalls) {
+                    rejected.increment();
+                    return false;
+                }
+                halfOpenPermitted++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Record the outcome of a permitted call
+     */
+    public synchronized void onResult(boolean failed, long durationNanos) {
+        byte outcome = (byte) ((failed ? FAILED : 0) | (durationNanos >= slowCallNanos ? SLOW : 0));
+        if (state == State.CLOSED) {
+            if (windowCount == window.length) {
+                byte evicted = window[windowIndex];
+                windowFailures -= evicted & FAILED;
+                windowSlowCalls -= (evicted & SLOW) >> 1;
+            } else {
+                windowCount++;
+            }
+            window[windowIndex] = outcome;
+            windowIndex = (windowIndex + 1) % window.length;
+            windowFailures += outcome & FAILED;
+            windowSlowCalls += (outcome & SLOW) >> 1;
+            if (windowCount >= minimumCalls) {
+                openIfOverThreshold(windowFailures, windowSlowCalls, windowCount);
+            }
+        } else if (state == State.HALF_OPEN) {
+            halfOpenCompleted++;
+            halfOpenFailures += outcome & FAILED;
+            halfOpenSlowCalls += (outcome & SLOW) >> 1;
+            if (halfOpenCompleted >= halfOpenCalls && !openIfOverThreshold(halfOpenFailures, halfOpenSlowCalls,
+                    halfOpenCompleted)) {
+                windowIndex = 0;
+                windowCount = 0;
+                windowFailures = 0;
+                windowSlowCalls = 0;
+                transition(State.CLOSED, halfOpenCompleted + " trial calls passed");
+            }
+        }
+        // Late results from calls started before the circuit opened are ignored
+    }
+
+    private boolean openIfOverThreshold(int failures, int slowCalls, int calls) {
+        int failureRate = failures * 100 / calls;
+        int slowCallRate = slowCalls * 100 / calls;
+        if (failureRate < failureRateThreshold && slowCallRate < slowCallRateThreshold) {
+            return false;
+        }
+        openedAtNanos = System.nanoTime();
+        transition(State.OPEN, String.format("failure rate %d%%, slow call rate %d%% over %d calls",
+                failureRate, slowCallRate, calls));
+        return true;
+    }
+
+    private void transition(State target, String reason) {
+        String description = String.format("%s %s -> %s (%s)", LocalTime.now().format(TIME_FORMAT), state, target,
+                reason);
+        state = target;
+        transitions.add(description);
+        transitionListener.accept(description);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public List<String> getTransitions() {
+        return List.copyOf(transitions);
+    }
+}
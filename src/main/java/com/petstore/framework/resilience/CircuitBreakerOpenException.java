@@ -0,0 +1,12 @@
+package com.petstore.framework.resilience;
+
+/**
+ * Thrown instead of sending a request while the endpoint's circuit breaker is open
+ */
+public class CircuitBreakerOpenException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    public CircuitBreakerOpenException(String endpoint, CircuitBreaker.State state) {
+        super("Circuit breaker " + state + " for " + endpoint + ", request not sent");
+    }
+}
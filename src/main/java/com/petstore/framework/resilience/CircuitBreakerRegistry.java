@@ -0,0 +1,89 @@
+package com.petstore.framework.resilience;
+
+import com.petstore.framework.config.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-endpoint circuit breakers shared by the RestAssured and async clients, configured from circuit.breaker.*
+ * Endpoints are keyed "METHOD /path/template". Transitions are logged and kept by each breaker for
+ * getMetrics, which the custom report collects once per suite
+ */
+public class CircuitBreakerRegistry {
+    private static final Logger logger = LogManager.getLogger(CircuitBreakerRegistry.class);
+
+    private final TestConfig config;
+    private final boolean enabled;
+    private final ConcurrentHashMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private CircuitBreakerRegistry() {
+        this.config = TestConfig.getInstance();
+        this.enabled = config.isCircuitBreakerEnabled();
+        if (enabled) {
+            logger.info("Circuit breakers enabled: failure rate {}%, slow call rate {}% (>{}ms), window {}, "
+                            + "minimum calls {}, open {}ms", config.getCircuitBreakerFailureRateThreshold(),
+                    config.getCircuitBreakerSlowCallRateThreshold(), config.getCircuitBreakerSlowCallDuration(),
+                    config.getCircuitBreakerWindowSize(), config.getCircuitBreakerMinimumCalls(),
+                    config.getCircuitBreakerOpenDuration());
+        }
+    }
+
+    private static class Holder {
+        private static final CircuitBreakerRegistry INSTANCE = new CircuitBreakerRegistry();
+    }
+
+    public static CircuitBreakerRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Get the breaker for an endpoint, or null when circuit breakers are disabled
+     */
+    public CircuitBreaker getBreaker(String method, String pathTemplate) {
+        if (!enabled) {
+            return null;
+        }
+        return breakers.computeIfAbsent(method + " " + pathTemplate, this::createBreaker);
+    }
+
+    private CircuitBreaker createBreaker(String endpoint) {
+        return new CircuitBreaker(endpoint,
+                config.getCircuitBreakerFailureRateThreshold(),
+                config.getCircuitBreakerSlowCallRateThreshold(),
+                TimeUnit.MILLISECONDS.toNanos(config.getCircuitBreakerSlowCallDuration()),
+                config.getCircuitBreakerWindowSize(),
+                config.getCircuitBreakerMinimumCalls(),
+                TimeUnit.MILLISECONDS.toNanos(config.getCircuitBreakerOpenDuration()),
+                config.getCircuitBreakerHalfOpenCalls(),
+                transition -> logger.warn("Circuit breaker {}: {}", endpoint, transition));
+    }
+
+    /**
+     * Get breaker statistics as report metrics; per-endpoint entries only for breakers that left CLOSED
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        if (!enabled) {
+            return metrics;
+        }
+        Map<String, CircuitBreaker> sorted = new TreeMap<>(breakers);
+        long opened = sorted.values().stream().filter(breaker -> !breaker.getTransitions().isEmpty()).count();
+        metrics.put("circuitBreaker.endpoints", sorted.size());
+        metrics.put("circuitBreaker.opened", opened);
+        metrics.put("circuitBreaker.rejected", sorted.values().stream().mapToLong(CircuitBreaker::getRejectedCount).sum());
+        sorted.forEach((endpoint, breaker) -> {
+            if (!breaker.getTransitions().isEmpty()) {
+                metrics.put("circuitBreaker." + endpoint + ".state", breaker.getState().name());
+                metrics.put("circuitBreaker." + endpoint + ".rejected", breaker.getRejectedCount());
+                metrics.put("circuitBreaker." + endpoint + ".transitions", breaker.getTransitions());
+            }
+        });
+        return metrics;
+    }
+}
@@ -0,0 +1,222 @@
+package com.petstore.framework.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.petstore.models.Category;
+import com.petstore.models.Order;
+import com.petstore.models.Pet;
+import com.petstore.models.Tag;
+import com.petstore.models.User;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Shared JSON serialization for PetStore models
+ * Holds one configured ObjectMapper and immutable, pre-warmed ObjectReader/ObjectWriter instances
+ * for each model, its list and array types and the inventory map; readers and writers are thread-safe
+ */
+public class ModelSerializer {
+    private static final Logger logger = LogManager.getLogger(ModelSerializer.class);
+    private static final List<Class<?>> MODEL_TYPES = List.of(Pet.class, Order.class, User.class, Category.class, Tag.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final JavaType inventoryType;
+
+    private ModelSerializer() {
+        this.objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        this.inventoryType = typeFactory.constructMapType(Map.class, String.class, Integer.class);
+
+        for (Class<?> modelType : MODEL_TYPES) {
+            warmUp(typeFactory.constructType(modelType), "{}");
+            warmUp(typeFactory.constructCollectionType(List.class, modelType), "[]");
+            warmUp(typeFactory.constructArrayType(modelType), "[]");
+        }
+        warmUp(inventoryType, "{}");
+        writerFor(ArrayList.class);
+        logger.debug("Initialized model serializer with {} readers and {} writers", readers.size(), writers.size());
+    }
+
+    private static class Holder {
+        private static final ModelSerializer INSTANCE = new ModelSerializer();
+    }
+
+    public static ModelSerializer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Create the reader and writer for a type and run them once so their (de)serializers are resolved
+     */
+    private void warmUp(JavaType type, String emptyJson) {
+        try {
+            Object empty = readerFor(type).readValue(emptyJson);
+            writerFor(empty.getClass()).writeValueAsString(empty);
+        } catch (JsonProcessingException e) {
+            logger.warn("Failed to warm up serializer for {}: {}", type, e.getMessage());
+        }
+    }
+
+    /**
+     * Serialize a model, list of models or map to JSON
+     */
+    public String toJson(Object value) {
+        try {
+            return writerFor(value.getClass()).writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Error serializing " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Serialize a model, list of models or map straight to UTF-8 bytes
+     * (Jackson encodes into its recycled per-thread buffers; the only copy is the returned array)
+     */
+    public byte[] toJsonBytes(Object value) {
+        try {
+            return writerFor(value.getClass()).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Error serializing " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Deserialize a single model
+     */
+    public <T> T fromJson(String json, Class<T> type) {
+        return read(json, objectMapper.constructType(type));
+    }
+
+    /**
+     * Deserialize a JSON array of models
+     */
+    public <T> List<T> fromJsonList(String json, Class<T> elementType) {
+        return read(json, objectMapper.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    /**
+     * Deserialize a store inventory (status to quantity)
+     */
+    public Map<String, Integer> fromJsonInventory(String json) {
+        return read(json, inventoryType);
+    }
+
+    /**
+     * Deserialize a single model from UTF-8 bytes
+     */
+    public <T> T fromJson(byte[] json, Class<T> type) {
+        return read(json, objectMapper.constructType(type));
+    }
+
+    /**
+     * Deserialize a JSON array of models from UTF-8 bytes
+     */
+    public <T> List<T> fromJsonList(byte[] json, Class<T> elementType) {
+        return read(json, objectMapper.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    /**
+     * Deserialize a store inventory (status to quantity) from UTF-8 bytes
+     */
+    public Map<String, Integer> fromJsonInventory(byte[] json) {
+        return read(json, inventoryType);
+    }
+
+    /**
+     * Stream the elements of a JSON array of models as they are parsed, one at a time
+     * Neither the body nor the full list is held in memory; closing the stream closes the input
+     */
+    public <T> Stream<T> streamJsonArray(InputStream json, Class<T> elementType) {
+        MappingIterator<T> elements;
+        try {
+            elements = readerFor(objectMapper.constructType(elementType)).readValues(json);
+        } catch (IOException e) {
+            closeQuietly(json);
+            throw new UncheckedIOException("Error deserializing array of " + elementType.getSimpleName(), e);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED | Spliterator.NONNULL),
+                false).onClose(() -> closeQuietly(elements));
+    }
+
+    /**
+     * Hand each element of a JSON array of models to the consumer as it is parsed; returns the element count
+     */
+    public <T> long readJsonArray(InputStream json, Class<T> elementType, Consumer<? super T> consumer) {
+        try (Stream<T> elements = streamJsonArray(json, elementType)) {
+            long[] count = new long[1];
+            elements.forEach(element -> {
+                consumer.accept(element);
+                count[0]++;
+            });
+            return count[0];
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            logger.debug("Error closing JSON input: {}", e.getMessage());
+        }
+    }
+
+    private <T> T read(String json, JavaType type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Error deserializing " + type, e);
+        }
+    }
+
+    private <T> T read(byte[] json, JavaType type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error deserializing " + type, e);
+        }
+    }
+
+    /**
+     * Get the cached reader for a type
+     */
+    public ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * Get the cached writer for a runtime class
+     */
+    public ObjectWriter writerFor(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * Get the shared ObjectMapper (for types without a cached reader or writer)
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,46 @@
+package com.petstore.framework.stub;
+
+import com.petstore.framework.config.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+
+/**
+ * TestNG listener applying @InjectFaults (on the test method, else its class) to the requests the test sends
+ * The profile is bound to the test thread for the duration of the method and travels to the proxy in the
+ * X-Fault-Profile header; without fault.injection.enabled=true the annotation is ignored with a warning
+ */
+public class FaultInjectionListener implements IInvokedMethodListener {
+    private static final Logger logger = LogManager.getLogger(FaultInjectionListener.class);
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        Method testMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+        InjectFaults faults = testMethod.getAnnotation(InjectFaults.class);
+        if (faults == null) {
+            faults = testMethod.getDeclaringClass().getAnnotation(InjectFaults.class);
+        }
+        if (faults == null) {
+            return;
+        }
+        if (!TestConfig.getInstance().isFaultInjectionEnabled()) {
+            logger.warn("@InjectFaults on {} ignored: fault.injection.enabled is false", testMethod.getName());
+            return;
+        }
+        FaultProfile.setCurrentTest(FaultProfile.fromAnnotation(faults));
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            FaultProfile.setCurrentTest(null);
+        }
+    }
+}
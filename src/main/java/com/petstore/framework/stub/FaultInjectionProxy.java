@@ -0,0 +1,209 @@
+package com.petstore.framework.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local reverse proxy injecting latency and faults in front of an upstream base URL (the stub or a real host)
+ * Each request is planned by a FaultProfile: the fault.* default, or the per-test profile sent in the
+ * X-Fault-Profile header. Resets close the connection without a response (the JDK server cannot send a TCP
+ * RST), errors answer without reaching the upstream, partial responses stop half-way through the declared
+ * Content-Length and slow bodies are written in 100ms slices at the configured rate
+ */
+public class FaultInjectionProxy {
+    private static final Logger logger = LogManager.getLogger(FaultInjectionProxy.class);
+    private static final Set<String> UNFORWARDED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "keep-alive", "proxy-connection", "te", "trailer", "transfer-encoding", "upgrade",
+            FaultProfile.HEADER.toLowerCase());
+    private static final long SLOW_BODY_SLICE_MILLIS = 100;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final HttpClient upstreamClient;
+    private final String upstreamOrigin;
+    private final String basePath;
+    private final FaultProfile defaultProfile;
+    private final Map<String, FaultProfile> headerProfiles = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder partialResponses = new LongAdder();
+    private final LongAdder slowBodies = new LongAdder();
+
+    private FaultInjectionProxy(String upstreamBaseUrl, FaultProfile defaultProfile, int port) throws IOException {
+        URI upstream = URI.create(upstreamBaseUrl);
+        this.upstreamOrigin = upstream.getScheme() + "://" + upstream.getRawAuthority();
+        this.basePath = upstream.getRawPath() == null ? "" : upstream.getRawPath().replaceAll("/$", "");
+        this.defaultProfile = defaultProfile;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.upstreamClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(executor)
+                .build();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Start a proxy for the upstream base URL on the given port (0 for an ephemeral port)
+     */
+    public static FaultInjectionProxy start(String upstreamBaseUrl, FaultProfile defaultProfile, int port) {
+        try {
+            FaultInjectionProxy proxy = new FaultInjectionProxy(upstreamBaseUrl, defaultProfile, port);
+            proxy.server.start();
+            logger.info("Fault injection proxy started at {} -> {} with default faults: {}", proxy.getBaseUrl(),
+                    upstreamBaseUrl, defaultProfile);
+            return proxy;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start fault injection proxy on port " + port, e);
+        }
+    }
+
+    /**
+     * Base URL to use in place of the upstream base URL
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + basePath;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("Fault injection proxy stopped");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            String header = exchange.getRequestHeaders().getFirst(FaultProfile.HEADER);
+            FaultProfile profile = header != null
+                    ? headerProfiles.computeIfAbsent(header, FaultProfile::fromHeader)
+                    : defaultProfile;
+            String rawPath = exchange.getRequestURI().getRawPath();
+            String path = rawPath.startsWith(basePath) ? rawPath.substring(basePath.length()) : rawPath;
+            FaultProfile.Plan plan = profile.next(exchange.getRequestMethod(), path);
+
+            if (plan.getLatencyMillis() > 0) {
+                delayed.increment();
+                Thread.sleep(plan.getLatencyMillis());
+            }
+            FaultProfile.Fault fault = plan.getFault();
+            if (fault == FaultProfile.Fault.RESET) {
+                resets.increment();
+                // Closing before the response headers drops the connection with nothing sent
+                return;
+            }
+            if (fault == FaultProfile.Fault.ERROR) {
+                errors.increment();
+                byte[] body = String.format("{\"code\":%d,\"type\":\"error\",\"message\":\"Injected fault\"}",
+                        profile.getErrorStatus()).getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.getResponseHeaders().set(FaultProfile.HEADER, "error");
+                exchange.sendResponseHeaders(profile.getErrorStatus(), body.length);
+                exchange.getResponseBody().write(body);
+                return;
+            }
+
+            HttpResponse<byte[]> response;
+            try {
+                response = forward(exchange);
+            } catch (IOException e) {
+                logger.warn("Upstream call failed for {} {}: {}", exchange.getRequestMethod(), rawPath, e.toString());
+                exchange.sendResponseHeaders(502, -1);
+                return;
+            }
+            response.headers().map().forEach((name, values) -> {
+                if (!UNFORWARDED_HEADERS.contains(name.toLowerCase())) {
+                    exchange.getResponseHeaders().put(name, values);
+                }
+            });
+            byte[] body = response.body();
+            exchange.sendResponseHeaders(response.statusCode(), body.length > 0 ? body.length : -1);
+            OutputStream out = exchange.getResponseBody();
+            if (fault == FaultProfile.Fault.PARTIAL_RESPONSE) {
+                partialResponses.increment();
+                out.write(body, 0, body.length / 2);
+                out.flush();
+                // Closing short of Content-Length makes the JDK server drop the connection
+            } else if (fault == FaultProfile.Fault.SLOW_BODY) {
+                slowBodies.increment();
+                writeSlowly(out, body, profile.getSlowBodyBytesPerSecond());
+            } else {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpResponse<byte[]> forward(HttpExchange exchange) throws IOException, InterruptedException {
+        byte[] requestBody;
+        try (InputStream in = exchange.getRequestBody()) {
+            requestBody = in.readAllBytes();
+        }
+        String query = exchange.getRequestURI().getRawQuery();
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(upstreamOrigin + exchange.getRequestURI().getRawPath() + (query != null ? "?" + query : "")))
+                .method(exchange.getRequestMethod(), requestBody.length > 0
+                        ? HttpRequest.BodyPublishers.ofByteArray(requestBody)
+                        : HttpRequest.BodyPublishers.noBody());
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            if (!UNFORWARDED_HEADERS.contains(header.getKey().toLowerCase())) {
+                header.getValue().forEach(value -> builder.header(header.getKey(), value));
+            }
+        }
+        return upstreamClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static void writeSlowly(OutputStream out, byte[] body, int bytesPerSecond)
+            throws IOException, InterruptedException {
+        int slice = (int) Math.max(1, bytesPerSecond * SLOW_BODY_SLICE_MILLIS / 1000);
+        for (int offset = 0; offset < body.length; offset += slice) {
+            out.write(body, offset, Math.min(slice, body.length - offset));
+            out.flush();
+            if (offset + slice < body.length) {
+                Thread.sleep(SLOW_BODY_SLICE_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Get injected fault counts as report metrics
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("faults.requests", requests.sum());
+        metrics.put("faults.delayed", delayed.sum());
+        metrics.put("faults.resets", resets.sum());
+        metrics.put("faults.errors", errors.sum());
+        metrics.put("faults.partialResponses", partialResponses.sum());
+        metrics.put("faults.slowBodies", slowBodies.sum());
+        return metrics;
+    }
+}
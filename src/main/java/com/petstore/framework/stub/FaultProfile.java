@@ -0,0 +1,260 @@
+package com.petstore.framework.stub;
+
+import com.petstore.framework.config.TestConfig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Faults the FaultInjectionProxy applies to the requests it forwards
+ * Each fault fires for its configured share of requests following a low-discrepancy (golden ratio) sequence
+ * instead of a random draw, so a run injects the same faults in the same order every time. Faults are
+ * offset by a quarter of the sequence each, so with rates up to 25% they never compete for a request;
+ * latency is sampled from a second sequence so it is not tied to the fault a request gets
+ */
+public class FaultProfile {
+    /** Request header carrying a per-test profile from the client to the proxy */
+    public static final String HEADER = "X-Fault-Profile";
+
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949;
+    private static final double SILVER_RATIO_FRACTION = 0.4142135623730951;
+    private static final ThreadLocal<FaultProfile> CURRENT_TEST = new ThreadLocal<>();
+
+    public enum Fault { RESET, ERROR, PARTIAL_RESPONSE, SLOW_BODY }
+
+    private final long latencyMillis;
+    private final double[] latencyPercentiles;
+    private final long[] latencyPercentileMillis;
+    private final double errorRate;
+    private final int errorStatus;
+    private final Map<String, Double> endpointErrorRates;
+    private final double resetRate;
+    private final double slowBodyRate;
+    private final int slowBodyBytesPerSecond;
+    private final double partialResponseRate;
+    private final String encoded;
+    private final AtomicLong requests = new AtomicLong();
+
+    public FaultProfile(long latencyMillis, String latencyPercentiles, double errorRate, int errorStatus,
+                        Map<String, Double> endpointErrorRates, double resetRate, double slowBodyRate,
+                        int slowBodyBytesPerSecond, double partialResponseRate) {
+        this.latencyMillis = Math.max(0, latencyMillis);
+        Map<Double, Long> points = parsePercentiles(latencyPercentiles);
+        this.latencyPercentiles = points.keySet().stream().mapToDouble(Double::doubleValue).toArray();
+        this.latencyPercentileMillis = points.values().stream().mapToLong(Long::longValue).toArray();
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.endpointErrorRates = Map.copyOf(endpointErrorRates);
+        this.resetRate = resetRate;
+        this.slowBodyRate = slowBodyRate;
+        this.slowBodyBytesPerSecond = Math.max(1, slowBodyBytesPerSecond);
+        this.partialResponseRate = partialResponseRate;
+        this.encoded = encode(latencyPercentiles);
+    }
+
+    /**
+     * Default profile from the fault.* settings
+     */
+    public static FaultProfile fromConfig(TestConfig config) {
+        return new FaultProfile(config.getFaultLatency(), config.getFaultLatencyPercentiles(),
+                config.getFaultErrorRate(), config.getFaultErrorStatus(), config.getFaultErrorRateEndpoints(),
+                config.getFaultResetRate(), config.getFaultSlowBodyRate(), config.getFaultSlowBodyBytesPerSecond(),
+                config.getFaultPartialResponseRate());
+    }
+
+    public static FaultProfile fromAnnotation(InjectFaults faults) {
+        return new FaultProfile(faults.latencyMillis(), faults.latencyPercentiles(), faults.errorRate(),
+                faults.errorStatus(), Map.of(), faults.resetRate(), faults.slowBodyRate(),
+                faults.slowBodyBytesPerSecond(), faults.partialResponseRate());
+    }
+
+    /**
+     * Rebuild a profile sent in the X-Fault-Profile header
+     */
+    public static FaultProfile fromHeader(String header) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String pair : header.split(";")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                values.put(pair.substring(0, separator), pair.substring(separator + 1));
+            }
+        }
+        return new FaultProfile(Long.parseLong(values.getOrDefault("latency", "0")),
+                values.getOrDefault("percentiles", "").replace(':', '=').replace('|', ','),
+                Double.parseDouble(values.getOrDefault("error", "0")),
+                Integer.parseInt(values.getOrDefault("status", "503")), Map.of(),
+                Double.parseDouble(values.getOrDefault("reset", "0")),
+                Double.parseDouble(values.getOrDefault("slow", "0")),
+                Integer.parseInt(values.getOrDefault("bps", "1024")),
+                Double.parseDouble(values.getOrDefault("partial", "0")));
+    }
+
+    /**
+     * Profile of the test running on this thread (set by FaultInjectionListener), or null
+     */
+    public static FaultProfile forCurrentTest() {
+        return CURRENT_TEST.get();
+    }
+
+    static void setCurrentTest(FaultProfile profile) {
+        if (profile != null) {
+            CURRENT_TEST.set(profile);
+        } else {
+            CURRENT_TEST.remove();
+        }
+    }
+
+    private static Map<Double, Long> parsePercentiles(String spec) {
+        Map<Double, Long> points = new TreeMap<>();
+        if (spec == null || spec.isBlank()) {
+            return points;
+        }
+        for (String point : spec.split(",")) {
+            String[] parts = point.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Latency percentile must be percentile=ms: " + point);
+            }
+            points.put(Double.parseDouble(parts[0].trim()), Long.parseLong(parts[1].trim()));
+        }
+        return points;
+    }
+
+    private String encode(String percentiles) {
+        StringJoiner joiner = new StringJoiner(";");
+        joiner.add("latency=" + latencyMillis);
+        if (percentiles != null && !percentiles.isBlank()) {
+            joiner.add("percentiles=" + percentiles.replace(" ", "").replace('=', ':').replace(',', '|'));
+        }
+        joiner.add("error=" + errorRate).add("status=" + errorStatus).add("reset=" + resetRate)
+                .add("slow=" + slowBodyRate).add("bps=" + slowBodyBytesPerSecond).add("partial=" + partialResponseRate);
+        return joiner.toString();
+    }
+
+    /**
+     * Value for the X-Fault-Profile header
+     */
+    public String toHeader() {
+        return encoded;
+    }
+
+    /**
+     * Decisions for the next request (path relative to the base URL, e.g. /pet/42)
+     */
+    public Plan next(String method, String path) {
+        long sequence = requests.getAndIncrement();
+        double errorRateForEndpoint = endpointErrorRates.isEmpty() ? errorRate : endpointErrorRate(method, path);
+        Fault fault = null;
+        if (fires(sequence, 0, resetRate)) {
+            fault = Fault.RESET;
+        } else if (fires(sequence, 1, errorRateForEndpoint)) {
+            fault = Fault.ERROR;
+        } else if (fires(sequence, 2, partialResponseRate)) {
+            fault = Fault.PARTIAL_RESPONSE;
+        } else if (fires(sequence, 3, slowBodyRate)) {
+            fault = Fault.SLOW_BODY;
+        }
+        return new Plan(latencyMillis + sampleLatency(sequence), fault);
+    }
+
+    /**
+     * Error rate of the "METHOD /path" key equal to the request, else of the first "METHOD /path/template" key
+     * matching it ({name} matches one segment, so /pet/{petId} also matches /pet/findByStatus)
+     */
+    private double endpointErrorRate(String method, String path) {
+        Double exact = endpointErrorRates.get(method + " " + path);
+        if (exact != null) {
+            return exact;
+        }
+        String[] segments = path.split("/");
+        for (Map.Entry<String, Double> entry : endpointErrorRates.entrySet()) {
+            String key = entry.getKey();
+            int separator = key.indexOf(' ');
+            if (separator < 0 || !key.substring(0, separator).equals(method)) {
+                continue;
+            }
+            String[] templateSegments = key.substring(separator + 1).trim().split("/");
+            if (templateSegments.length != segments.length) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < segments.length && matches; i++) {
+                matches = templateSegments[i].startsWith("{") || templateSegments[i].equals(segments[i]);
+            }
+            if (matches) {
+                return entry.getValue();
+            }
+        }
+        return errorRate;
+    }
+
+    /**
+     * True for ratePercent of the sequence; each fault uses its own phase so equal rates hit different requests
+     */
+    private static boolean fires(long sequence, int phase, double ratePercent) {
+        return ratePercent > 0 && uniform(sequence, GOLDEN_RATIO_FRACTION, phase * 0.25) * 100 < ratePercent;
+    }
+
+    private static double uniform(long sequence, double step, double offset) {
+        double value = (sequence + 1) * step + offset;
+        return value - Math.floor(value);
+    }
+
+    /**
+     * Extra latency interpolated between the configured percentile points (0ms below the first one)
+     */
+    private long sampleLatency(long sequence) {
+        if (latencyPercentiles.length == 0) {
+            return 0;
+        }
+        double percentile = uniform(sequence, SILVER_RATIO_FRACTION, 0) * 100;
+        double lowerPercentile = 0;
+        long lowerMillis = 0;
+        for (int i = 0; i < latencyPercentiles.length; i++) {
+            if (percentile <= latencyPercentiles[i]) {
+                double span = latencyPercentiles[i] - lowerPercentile;
+                double fraction = span > 0 ? (percentile - lowerPercentile) / span : 1;
+                return lowerMillis + Math.round((latencyPercentileMillis[i] - lowerMillis) * fraction);
+            }
+            lowerPercentile = latencyPercentiles[i];
+            lowerMillis = latencyPercentileMillis[i];
+        }
+        return lowerMillis;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public int getSlowBodyBytesPerSecond() {
+        return slowBodyBytesPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return endpointErrorRates.isEmpty() ? encoded : encoded + ";endpoints=" + endpointErrorRates;
+    }
+
+    /**
+     * What to do with one request: delay it, then apply at most one fault
+     */
+    public static final class Plan {
+        private final long latencyMillis;
+        private final Fault fault;
+
+        private Plan(long latencyMillis, Fault fault) {
+            this.latencyMillis = latencyMillis;
+            this.fault = fault;
+        }
+
+        public long getLatencyMillis() {
+            return latencyMillis;
+        }
+
+        public Fault getFault() {
+            return fault;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.petstore.framework.stub;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fault profile for the requests a test method (or every method of a test class) sends
+ * Applied by FaultInjectionListener through the fault injection proxy, so it needs fault.injection.enabled=true;
+ * it replaces the fault.* defaults for those requests only. Rates are percentages
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface InjectFaults {
+    /** Fixed latency added to every request (ms) */
+    long latencyMillis() default 0;
+
+    /** Extra latency distribution as "percentile=ms" points, e.g. "50=20,99=400,100=1000" */
+    String latencyPercentiles() default "";
+
+    double errorRate() default 0;
+
+    int errorStatus() default 503;
+
+    double resetRate() default 0;
+
+    double slowBodyRate() default 0;
+
+    int slowBodyBytesPerSecond() default 1024;
+
+    double partialResponseRate() default 0;
+}
@@ -0,0 +1,414 @@
+package com.petstore.framework.stub;
+
+import com.petstore.framework.serialization.ModelSerializer;
+import com.petstore.models.Order;
+import com.petstore.models.Pet;
+import com.petstore.models.User;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * In-process PetStore API stub for hermetic, high-throughput local runs
+ * Serves the /pet, /store and /user endpoints the API services call under /v2, on the JDK's NIO-based
+ * HttpServer with one virtual thread per exchange and in-memory storage. Responses follow
+ * petstore.swagger.io/v2: JSON everywhere, {"code","type","message"} for acknowledgements and errors;
+ * successful GETs also carry an ETag and honour If-None-Match
+ */
+public class PetStoreStubServer {
+    private static final Logger logger = LogManager.getLogger(PetStoreStubServer.class);
+    private static final String BASE_PATH = "/v2";
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final int BACKLOG = 1024;
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ModelSerializer serializer = ModelSerializer.getInstance();
+    private final Map<Long, Pet> pets = new ConcurrentHashMap<>();
+    private final Map<Long, Order> orders = new ConcurrentHashMap<>();
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(System.currentTimeMillis());
+
+    private PetStoreStubServer(int port) throws IOException {
+        // Headers and body go out in separate writes; without TCP_NODELAY each response waits on a delayed ACK
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(BASE_PATH + "/pet", handler(this::handlePet));
+        server.createContext(BASE_PATH + "/store", handler(this::handleStore));
+        server.createContext(BASE_PATH + "/user", handler(this::handleUser));
+    }
+
+    /**
+     * Start a stub server on the given port (0 for an ephemeral port)
+     */
+    public static PetStoreStubServer start(int port) {
+        try {
+            PetStoreStubServer stub = new PetStoreStubServer(port);
+            stub.server.start();
+            logger.info("PetStore stub server started at {}", stub.getBaseUrl());
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start PetStore stub server on port " + port, e);
+        }
+    }
+
+    /**
+     * Base URL to use in place of https://petstore.swagger.io/v2
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    /**
+     * Drop all stored pets, orders and users
+     */
+    public void clear() {
+        pets.clear();
+        orders.clear();
+        users.clear();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("PetStore stub server stopped");
+    }
+
+    private interface Route {
+        Reply handle(Request request);
+    }
+
+    private static final class Request {
+        private final String method;
+        private final String[] segments;
+        private final Map<String, List<String>> query;
+        private final byte[] body;
+        private final String contentType;
+
+        private Request(String method, String[] segments, Map<String, List<String>> query, byte[] body,
+                        String contentType) {
+            this.method = method;
+            this.segments = segments;
+            this.query = query;
+            this.body = body;
+            this.contentType = contentType;
+        }
+
+        private String segment(int index) {
+            return index < segments.length ? segments[index] : null;
+        }
+    }
+
+    private static final class Reply {
+        private final int status;
+        private final Object body;
+        private final Map<String, String> headers;
+
+        private Reply(int status, Object body, Map<String, String> headers) {
+            this.status = status;
+            this.body = body;
+            this.headers = headers;
+        }
+
+        private Reply(int status, Object body) {
+            this(status, body, Map.of());
+        }
+    }
+
+    private HttpHandler handler(Route route) {
+        return exchange -> {
+            try (exchange) {
+                Reply reply;
+                try {
+                    reply = route.handle(readRequest(exchange));
+                } catch (UncheckedIOException | IllegalArgumentException e) {
+                    reply = message(400, "unknown", "bad input");
+                }
+                byte[] body = serializer.toJsonBytes(reply.body);
+                exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_JSON);
+                reply.headers.forEach(exchange.getResponseHeaders()::set);
+                if (reply.status == 200 && exchange.getRequestMethod().equals("GET")) {
+                    CRC32 crc = new CRC32();
+                    crc.update(body);
+                    String etag = "\"" + Long.toHexString(crc.getValue()) + "\"";
+                    exchange.getResponseHeaders().set("ETag", etag);
+                    if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                        exchange.sendResponseHeaders(304, -1);
+                        return;
+                    }
+                }
+                exchange.sendResponseHeaders(reply.status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        };
+    }
+
+    private Request readRequest(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getRawPath().substring(BASE_PATH.length() + 1);
+        String[] segments = path.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = URLDecoder.decode(segments[i], StandardCharsets.UTF_8);
+        }
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        return new Request(exchange.getRequestMethod(), segments, parseParams(exchange.getRequestURI().getRawQuery()),
+                body, exchange.getRequestHeaders().getFirst("Content-Type"));
+    }
+
+    private static Map<String, List<String>> parseParams(String encoded) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return params;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = URLDecoder.decode(separator >= 0 ? pair.substring(0, separator) : pair, StandardCharsets.UTF_8);
+            String value = separator >= 0 ? URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8) : "";
+            params.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return params;
+    }
+
+    // /pet, /pet/findByStatus, /pet/{petId}, /pet/{petId}/uploadImage
+    private Reply handlePet(Request request) {
+        String first = request.segment(1);
+        if (first == null) {
+            if (!request.method.equals("POST") && !request.method.equals("PUT")) {
+                return methodNotAllowed();
+            }
+            Pet pet = serializer.fromJson(request.body, Pet.class);
+            if (pet.getId() == null || pet.getId() == 0) {
+                pet.setId(nextId.incrementAndGet());
+            }
+            pets.put(pet.getId(), pet);
+            return new Reply(200, pet);
+        }
+        if (first.equals("findByStatus") && request.method.equals("GET")) {
+            List<String> statuses = new ArrayList<>();
+            request.query.getOrDefault("status", List.of()).forEach(value -> statuses.addAll(List.of(value.split(","))));
+            return new Reply(200, pets.values().stream().filter(pet -> statuses.contains(pet.getStatus())).toList());
+        }
+        Long petId = parseId(first);
+        if (petId == null) {
+            return numberFormatError(first);
+        }
+        if ("uploadImage".equals(request.segment(2))) {
+            if (!request.method.equals("POST")) {
+                return methodNotAllowed();
+            }
+            return uploadImage(request);
+        }
+        Pet pet = pets.get(petId);
+        switch (request.method) {
+            case "GET":
+                return pet != null ? new Reply(200, pet) : message(404, "error", "Pet not found");
+            case "POST":
+                if (pet == null) {
+                    return message(404, "unknown", "not found");
+                }
+                Map<String, List<String>> form = parseParams(new String(request.body, StandardCharsets.UTF_8));
+                form.getOrDefault("name", List.of()).forEach(pet::setName);
+                form.getOrDefault("status", List.of()).forEach(pet::setStatus);
+                return message(200, "unknown", String.valueOf(petId));
+            case "DELETE":
+                return pets.remove(petId) != null
+                        ? message(200, "unknown", String.valueOf(petId))
+                        : message(404, "error", "Pet not found");
+            default:
+                return methodNotAllowed();
+        }
+    }
+
+    private Reply uploadImage(Request request) {
+        String contentType = request.contentType;
+        int boundaryIndex = contentType != null ? contentType.indexOf("boundary=") : -1;
+        if (boundaryIndex < 0) {
+            return message(415, "unknown", "multipart/form-data required");
+        }
+        String delimiter = "--" + contentType.substring(boundaryIndex + "boundary=".length());
+        String metadata = "null";
+        String fileName = "file";
+        int fileBytes = 0;
+        // ISO-8859-1 maps bytes 1:1 to chars, so part lengths stay byte lengths
+        for (String part : new String(request.body, StandardCharsets.ISO_8859_1).split(delimiter)) {
+            int headerEnd = part.indexOf("\r\n\r\n");
+            if (headerEnd < 0) {
+                continue;
+            }
+            String headers = part.substring(0, headerEnd);
+            String content = part.substring(headerEnd + 4, Math.max(headerEnd + 4, part.length() - 2));
+            if (headers.contains("filename=\"")) {
+                int start = headers.indexOf("filename=\"") + "filename=\"".length();
+                fileName = headers.substring(start, headers.indexOf('"', start));
+                fileBytes = content.length();
+            } else if (headers.contains("name=\"additionalMetadata\"")) {
+                metadata = content;
+            }
+        }
+        return message(200, "unknown", "additionalMetadata: " + metadata + "\nFile uploaded to ./" + fileName
+                + ", " + fileBytes + " bytes");
+    }
+
+    // /store/inventory, /store/order, /store/order/{orderId}
+    private Reply handleStore(Request request) {
+        String first = request.segment(1);
+        if ("inventory".equals(first) && request.method.equals("GET")) {
+            Map<String, Integer> inventory = new TreeMap<>();
+            pets.values().forEach(pet -> {
+                if (pet.getStatus() != null) {
+                    inventory.merge(pet.getStatus(), 1, Integer::sum);
+                }
+            });
+            return new Reply(200, inventory);
+        }
+        if (!"order".equals(first)) {
+            return notFound();
+        }
+        String orderSegment = request.segment(2);
+        if (orderSegment == null) {
+            if (!request.method.equals("POST")) {
+                return methodNotAllowed();
+            }
+            Order order = serializer.fromJson(request.body, Order.class);
+            if (order.getId() == null || order.getId() == 0) {
+                order.setId(nextId.incrementAndGet());
+            }
+            orders.put(order.getId(), order);
+            return new Reply(200, order);
+        }
+        Long orderId = parseId(orderSegment);
+        if (orderId == null) {
+            return numberFormatError(orderSegment);
+        }
+        switch (request.method) {
+            case "GET":
+                Order order = orders.get(orderId);
+                return order != null ? new Reply(200, order) : message(404, "error", "Order not found");
+            case "DELETE":
+                return orders.remove(orderId) != null
+                        ? message(200, "unknown", String.valueOf(orderId))
+                        : message(404, "unknown", "Order Not Found");
+            default:
+                return methodNotAllowed();
+        }
+    }
+
+    // /user, /user/createWithArray, /user/createWithList, /user/login, /user/logout, /user/{username}
+    private Reply handleUser(Request request) {
+        String first = request.segment(1);
+        if (first == null) {
+            if (!request.method.equals("POST")) {
+                return methodNotAllowed();
+            }
+            User user = storeUser(serializer.fromJson(request.body, User.class));
+            return message(200, "unknown", String.valueOf(user.getId()));
+        }
+        if ((first.equals("createWithArray") || first.equals("createWithList")) && request.method.equals("POST")) {
+            serializer.fromJsonList(request.body, User.class).forEach(this::storeUser);
+            return message(200, "unknown", "ok");
+        }
+        if (first.equals("login") && request.method.equals("GET")) {
+            long expiresAt = System.currentTimeMillis() + 3_600_000;
+            return new Reply(200, apiResponse(200, "unknown",
+                    "logged in user session:" + ThreadLocalRandom.current().nextLong(1_000_000_000_000L)),
+                    Map.of("X-Rate-Limit", "5000", "X-Expires-After", new Date(expiresAt).toString()));
+        }
+        if (first.equals("logout") && request.method.equals("GET")) {
+            return message(200, "unknown", "ok");
+        }
+        switch (request.method) {
+            case "GET":
+                User user = users.get(first);
+                return user != null ? new Reply(200, user) : message(404, "error", "User not found");
+            case "PUT":
+                User updated = serializer.fromJson(request.body, User.class);
+                if (updated.getId() == null || updated.getId() == 0) {
+                    updated.setId(nextId.incrementAndGet());
+                }
+                users.remove(first);
+                users.put(updated.getUsername() != null ? updated.getUsername() : first, updated);
+                return message(200, "unknown", String.valueOf(updated.getId()));
+            case "DELETE":
+                return users.remove(first) != null
+                        ? message(200, "unknown", first)
+                        : message(404, "error", "User not found");
+            default:
+                return methodNotAllowed();
+        }
+    }
+
+    private User storeUser(User user) {
+        if (user.getId() == null || user.getId() == 0) {
+            user.setId(nextId.incrementAndGet());
+        }
+        if (user.getUsername() == null) {
+            throw new IllegalArgumentException("username is required");
+        }
+        users.put(user.getUsername(), user);
+        return user;
+    }
+
+    private static Long parseId(String segment) {
+        try {
+            return Long.parseLong(segment);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Object> apiResponse(int code, String type, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", code);
+        body.put("type", type);
+        body.put("message", message);
+        return body;
+    }
+
+    private static Reply message(int status, String type, String message) {
+        return new Reply(status, apiResponse(status == 404 && type.equals("error") ? 1 : status, type, message));
+    }
+
+    private static Reply numberFormatError(String segment) {
+        return message(404, "unknown", "java.lang.NumberFormatException: For input string: \"" + segment + "\"");
+    }
+
+    private static Reply notFound() {
+        return message(404, "unknown", "null for uri");
+    }
+
+    private static Reply methodNotAllowed() {
+        return message(405, "unknown", "Method not allowed");
+    }
+}
@@ -0,0 +1,69 @@
+package com.petstore.framework.stub;
+
+import com.petstore.framework.config.TestConfig;
+import com.petstore.framework.core.RestAssuredManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeSuite;
+
+import java.util.Map;
+
+/**
+ * TestNG suite hook running the suite against the embedded PetStoreStubServer when stub.server.enabled=true
+ * and/or through the FaultInjectionProxy when fault.injection.enabled=true
+ * Starts them before any test and points base.url (and the RestAssured default specs) at the outermost one
+ */
+public class StubServerHook {
+    private static final Logger logger = LogManager.getLogger(StubServerHook.class);
+    private static PetStoreStubServer server;
+    private static FaultInjectionProxy faultProxy;
+
+    @BeforeSuite(alwaysRun = true)
+    public void startStubServer() {
+        startIfEnabled();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void stopStubServer() {
+        stop();
+    }
+
+    /**
+     * Start the stub server if enabled and not yet running; returns the running server or null
+     */
+    public static synchronized PetStoreStubServer startIfEnabled() {
+        TestConfig config = TestConfig.getInstance();
+        if (server == null && config.isStubServerEnabled()) {
+            server = PetStoreStubServer.start(config.getStubServerPort());
+            config.setProperty("base.url", server.getBaseUrl());
+            RestAssuredManager.getInstance().resetConfiguration();
+            logger.info("Tests will run against the embedded PetStore stub at {}", server.getBaseUrl());
+        }
+        if (faultProxy == null && config.isFaultInjectionEnabled()) {
+            faultProxy = FaultInjectionProxy.start(config.getBaseUrl(), FaultProfile.fromConfig(config),
+                    config.getFaultProxyPort());
+            config.setProperty("base.url", faultProxy.getBaseUrl());
+            RestAssuredManager.getInstance().resetConfiguration();
+        }
+        return server;
+    }
+
+    /**
+     * Injected fault counts, empty when the fault injection proxy is not running
+     */
+    public static synchronized Map<String, Object> getFaultInjectionMetrics() {
+        return faultProxy != null ? faultProxy.getMetrics() : Map.of();
+    }
+
+    public static synchronized void stop() {
+        if (faultProxy != null) {
+            faultProxy.stop();
+            faultProxy = null;
+        }
+        if (server != null) {
+            server.stop();
+            server = null;
+        }
+    }
+}
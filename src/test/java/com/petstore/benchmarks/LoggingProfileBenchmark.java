@@ -0,0 +1,95 @@
+package com.petstore.benchmarks;
+
+import com.petstore.framework.core.RequestIdGenerator;
+import com.petstore.framework.filters.RequestIdFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the logging done for API calls (service, framework and API log lines) under the
+ * default synchronous log4j2.xml vs the async log4j2-async.xml profile
+ * Each measurement is the caller-side time for a burst of BURST_CALLS calls per thread (a test run logs
+ * in bursts, not at sustained disk speed); log4j is reconfigured before every iteration, so the async
+ * backlog from the previous burst is drained. Console output goes to a discarding stream
+ * Run with: mvn test -Pjmh -Djmh.benchmarks=LoggingProfileBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = LoggingProfileBenchmark.BURST_CALLS)
+@Measurement(iterations = 10, batchSize = LoggingProfileBenchmark.BURST_CALLS)
+@Fork(1)
+@Threads(4)
+public class LoggingProfileBenchmark {
+    static final int BURST_CALLS = 5_000;
+    private static final Logger apiServiceLogger = LogManager.getLogger("com.petstore.api.PetApiService");
+    private static final Logger frameworkLogger = LogManager.getLogger("com.petstore.framework.reporting.ReportManager");
+    private static final Logger apiLogger = LogManager.getLogger("ApiLogger");
+
+    @Param({"log4j2.xml", "log4j2-async.xml"})
+    public String configuration;
+
+    private PrintStream originalOut;
+    private String apiLogEntry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        apiLogEntry = "POST https://petstore.swagger.io/v2/pet\n"
+                + "  Accept: application/json, application/javascript, text/javascript, text/json\n"
+                + "  Content-Type: application/json\n"
+                + "  User-Agent: PetStore-API-Test-Framework/1.0\n"
+                + "HTTP/1.1 200 OK (84 ms)\n"
+                + "  Content-Type: application/json\n"
+                + "  {\"id\":1001,\"category\":{\"id\":1,\"name\":\"Dogs\"},\"name\":\"doggie\","
+                + "\"photoUrls\":[\"https://example.com/photo1.jpg\"],\"tags\":[{\"id\":1,\"name\":\"friendly\"}],"
+                + "\"status\":\"available\"}";
+    }
+
+    @Setup(Level.Iteration)
+    public void configureLogging() throws Exception {
+        Configurator.reconfigure(getClass().getClassLoader().getResource(configuration).toURI());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Configurator.reconfigure();
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void logApiCall() {
+        String requestId = RequestIdGenerator.nextId();
+        ThreadContext.put(RequestIdFilter.CONTEXT_KEY, requestId);
+        try {
+            apiServiceLogger.debug("Creating pet: {}", "doggie");
+            apiLogger.info(apiLogEntry);
+            frameworkLogger.info("API call logged: {} {} - Status: {} - Time: {}ms - Request ID: {}",
+                    "POST", "/pet", 200, 84L, requestId);
+            apiServiceLogger.info("Pet created successfully: {}", 1001L);
+        } finally {
+            ThreadContext.remove(RequestIdFilter.CONTEXT_KEY);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.petstore.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petstore.framework.serialization.ModelSerializer;
+import com.petstore.models.Category;
+import com.petstore.models.Pet;
+import com.petstore.models.Tag;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of model (de)serialization: RestAssured response mapping and per-service
+ * ObjectMappers (previous approach) vs the shared ModelSerializer readers and writers
+ * Run with: mvn test -Pjmh -Djmh.benchmarks=ModelSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelSerializationBenchmark {
+    private static final int PET_LIST_SIZE = 50;
+
+    private ModelSerializer modelSerializer;
+    private ObjectMapper serviceObjectMapper;
+    private Pet pet;
+    private String petJson;
+    private String petListJson;
+    private Response petResponse;
+    private Response petListResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        modelSerializer = ModelSerializer.getInstance();
+        serviceObjectMapper = new ObjectMapper();
+
+        pet = new Pet(1001L, "doggie", "available");
+        pet.setCategory(new Category(1L, "Dogs"));
+        pet.setPhotoUrls(List.of("https://example.com/photo1.jpg", "https://example.com/photo2.jpg"));
+        pet.setTags(List.of(new Tag(1L, "friendly"), new Tag(2L, "vaccinated")));
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < PET_LIST_SIZE; i++) {
+            pets.add(pet);
+        }
+
+        petJson = serviceObjectMapper.writeValueAsString(pet);
+        petListJson = serviceObjectMapper.writeValueAsString(pets);
+        petResponse = jsonResponse(petJson);
+        petListResponse = jsonResponse(petListJson);
+    }
+
+    private static Response jsonResponse(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType(ContentType.JSON)
+                .setBody(body)
+                .build();
+    }
+
+    // Previous approach
+
+    @Benchmark
+    public String writePetServiceObjectMapper() throws Exception {
+        return serviceObjectMapper.writeValueAsString(pet);
+    }
+
+    @Benchmark
+    public Pet readPetRestAssuredAs() {
+        return petResponse.as(Pet.class);
+    }
+
+    @Benchmark
+    public List<Pet> readPetListRestAssuredJsonPath() {
+        return petListResponse.jsonPath().getList("", Pet.class);
+    }
+
+    @Benchmark
+    public Pet readPetNewServiceObjectMapper() throws Exception {
+        return new ObjectMapper().readValue(petJson, Pet.class);
+    }
+
+    // Shared ModelSerializer
+
+    @Benchmark
+    public String writePetModelSerializer() {
+        return modelSerializer.toJson(pet);
+    }
+
+    @Benchmark
+    public Pet readPetModelSerializer() {
+        return modelSerializer.fromJson(petJson, Pet.class);
+    }
+
+    @Benchmark
+    public List<Pet> readPetListModelSerializer() {
+        return modelSerializer.fromJsonList(petListJson, Pet.class);
+    }
+}
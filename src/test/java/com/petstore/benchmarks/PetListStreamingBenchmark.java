@@ -0,0 +1,79 @@
+package com.petstore.benchmarks;
+
+import com.petstore.framework.serialization.ModelSerializer;
+import com.petstore.models.Category;
+import com.petstore.models.Pet;
+import com.petstore.models.Tag;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of mapping a 100k-pet findByStatus response: String body plus JsonPath (previous approach),
+ * ModelSerializer list from bytes, and ModelSerializer streaming one pet at a time
+ * Run with: mvn test -Pjmh -Djmh.benchmarks=PetListStreamingBenchmark (gc.alloc.rate.norm is bytes per op)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PetListStreamingBenchmark {
+    private static final int PET_COUNT = 100_000;
+
+    private ModelSerializer modelSerializer;
+    private byte[] petListJson;
+    private Response petListResponse;
+
+    @Setup
+    public void setUp() {
+        modelSerializer = ModelSerializer.getInstance();
+        List<Pet> pets = new ArrayList<>(PET_COUNT);
+        for (int i = 0; i < PET_COUNT; i++) {
+            Pet pet = new Pet((long) i, "doggie-" + i, "available");
+            pet.setCategory(new Category(1L, "Dogs"));
+            pet.setPhotoUrls(List.of("https://example.com/photos/" + i + ".jpg"));
+            pet.setTags(List.of(new Tag(1L, "friendly"), new Tag(2L, "vaccinated")));
+            pets.add(pet);
+        }
+        petListJson = modelSerializer.toJsonBytes(pets);
+        petListResponse = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType(ContentType.JSON)
+                .setBody(petListJson)
+                .build();
+    }
+
+    @Benchmark
+    public List<Pet> readStringJsonPath() {
+        petListResponse.asString();
+        return petListResponse.jsonPath().getList("", Pet.class);
+    }
+
+    @Benchmark
+    public List<Pet> readBytesModelSerializer() {
+        return modelSerializer.fromJsonList(petListJson, Pet.class);
+    }
+
+    @Benchmark
+    public long streamModelSerializer(Blackhole blackhole) {
+        return modelSerializer.readJsonArray(new ByteArrayInputStream(petListJson), Pet.class, blackhole::consume);
+    }
+}
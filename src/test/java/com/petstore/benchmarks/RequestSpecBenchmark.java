@@ -0,0 +1,53 @@
+package com.petstore.benchmarks;
+
+import com.petstore.framework.core.RestAssuredManager;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of merging a form-data spec from the default spec per call (previous approach)
+ * vs the cached spec from RestAssuredManager
+ * Run with: mvn test -Pjmh -Djmh.benchmarks=RequestSpecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestSpecBenchmark {
+    private RestAssuredManager restAssuredManager;
+    private RequestSpecification defaultRequestSpec;
+
+    @Setup
+    public void setUp() {
+        restAssuredManager = RestAssuredManager.getInstance();
+        defaultRequestSpec = restAssuredManager.getDefaultRequestSpec();
+    }
+
+    @Benchmark
+    public RequestSpecification formDataSpecMergedPerCall() {
+        return new RequestSpecBuilder()
+                .addRequestSpecification(defaultRequestSpec)
+                .setContentType(ContentType.URLENC)
+                .build();
+    }
+
+    @Benchmark
+    public RequestSpecification formDataSpecCached() {
+        return restAssuredManager.getFormDataRequestSpec();
+    }
+}
@@ -0,0 +1,169 @@
+package com.petstore.tests;
+
+import com.petstore.framework.filters.CircuitBreakerFilter;
+import com.petstore.framework.resilience.CircuitBreaker;
+import com.petstore.framework.resilience.CircuitBreakerOpenException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CircuitBreaker state machine driven through CircuitBreakerFilter: refused connects and slow calls open
+ * the circuit, and half-open trial calls close or re-open it
+ * Run with: mvn test -Dtest=CircuitBreakerTest
+ */
+public class CircuitBreakerTest {
+    private static final long SLOW_CALL_MILLIS = 200;
+    private static final long OPEN_MILLIS = 300;
+    private static final int WINDOW = 4;
+
+    private HttpServer server;
+    private String liveUrl;
+    private String deadUrl;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/ok", exchange -> reply(exchange, 200));
+        server.createContext("/fail", exchange -> reply(exchange, 503));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(SLOW_CALL_MILLIS + 100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            reply(exchange, 200);
+        });
+        server.start();
+        liveUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            deadUrl = "http://127.0.0.1:" + socket.getLocalPort();
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test(description = "Refused connects count as failures and open the circuit; open calls are not sent")
+    public void testRefusedConnectsOpenCircuit() {
+        CircuitBreaker breaker = breaker(2, new CopyOnWriteArrayList<>());
+
+        for (int i = 0; i < WINDOW; i++) {
+            Assert.assertTrue(call(breaker, deadUrl, "/ok") instanceof ConnectException);
+        }
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertTrue(call(breaker, deadUrl, "/ok") instanceof CircuitBreakerOpenException);
+        Assert.assertEquals(breaker.getRejectedCount(), 1);
+    }
+
+    @Test(description = "Calls slower than the slow-call duration open the circuit even when they succeed")
+    public void testSlowCallsOpenCircuit() {
+        CircuitBreaker breaker = breaker(2, new CopyOnWriteArrayList<>());
+
+        for (int i = 0; i < WINDOW; i++) {
+            Assert.assertNull(call(breaker, liveUrl, "/slow"));
+        }
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertTrue(breaker.getTransitions().get(0).contains("slow call rate 100%"));
+    }
+
+    @Test(description = "Successful half-open trial calls close the circuit")
+    public void testHalfOpenProbeSuccessClosesCircuit() throws InterruptedException {
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        CircuitBreaker breaker = breaker(2, transitions);
+        open(breaker);
+
+        TimeUnit.MILLISECONDS.sleep(OPEN_MILLIS + 50);
+        Assert.assertNull(call(breaker, liveUrl, "/ok"));
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        Assert.assertNull(call(breaker, liveUrl, "/ok"));
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+        Assert.assertEquals(transitions.size(), 3);
+        Assert.assertTrue(transitions.get(2).contains("HALF_OPEN -> CLOSED"));
+    }
+
+    @Test(description = "Half-open trial calls that fail to connect return their permits and re-open the circuit")
+    public void testHalfOpenProbeFailureReopensCircuit() throws InterruptedException {
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        CircuitBreaker breaker = breaker(2, transitions);
+        open(breaker);
+
+        TimeUnit.MILLISECONDS.sleep(OPEN_MILLIS + 50);
+        Assert.assertTrue(call(breaker, deadUrl, "/ok") instanceof ConnectException);
+        Assert.assertTrue(call(breaker, deadUrl, "/ok") instanceof ConnectException);
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertTrue(transitions.get(2).contains("HALF_OPEN -> OPEN"));
+
+        // The re-opened circuit recovers once the target is back
+        TimeUnit.MILLISECONDS.sleep(OPEN_MILLIS + 50);
+        Assert.assertNull(call(breaker, liveUrl, "/ok"));
+        Assert.assertNull(call(breaker, liveUrl, "/ok"));
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test(description = "Half-open admits only the configured number of trial calls")
+    public void testHalfOpenLimitsTrialCalls() throws InterruptedException {
+        CircuitBreaker breaker = breaker(1, new CopyOnWriteArrayList<>());
+        open(breaker);
+
+        TimeUnit.MILLISECONDS.sleep(OPEN_MILLIS + 50);
+        Assert.assertTrue(breaker.tryAcquire(), "First trial call should be admitted");
+        Assert.assertFalse(breaker.tryAcquire(), "Second call should wait for the trial's outcome");
+        breaker.onResult(false, 0);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    private void open(CircuitBreaker breaker) {
+        for (int i = 0; i < WINDOW; i++) {
+            Assert.assertNull(call(breaker, liveUrl, "/fail"));
+        }
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+    }
+
+    /**
+     * Send a GET through the breaker; returns what it threw, or null if a response came back
+     */
+    private static Throwable call(CircuitBreaker breaker, String baseUri, String path) {
+        try {
+            RestAssured.given().baseUri(baseUri)
+                    .filter(new CircuitBreakerFilter((method, pathTemplate) -> breaker))
+                    .get(path).asByteArray();
+            return null;
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
+    private static CircuitBreaker breaker(int halfOpenCalls, List<String> transitions) {
+        return new CircuitBreaker("GET /test", 50, 50, TimeUnit.MILLISECONDS.toNanos(SLOW_CALL_MILLIS), WINDOW,
+                WINDOW, TimeUnit.MILLISECONDS.toNanos(OPEN_MILLIS), halfOpenCalls, transitions::add);
+    }
+
+    private static void reply(HttpExchange exchange, int status) throws IOException {
+        byte[] body = ("{\"code\":" + status + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,117 @@
+package com.petstore.tests;
+
+import com.petstore.framework.reporting.CustomReportGenerator;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency stress test for CustomReportGenerator result collection: no result, API call or
+ * test data entry may be lost when many threads add them at once
+ * Run with: mvn test -Dtest=ReportCollectionStressTest
+ */
+public class ReportCollectionStressTest {
+    private static final Logger logger = LogManager.getLogger(ReportCollectionStressTest.class);
+    private static final int RESULTS_PER_THREAD = 20_000;
+    private static final int SHARED_CALLS_PER_THREAD = 5_000;
+
+    private Level generatorLogLevel;
+
+    /**
+     * Silence the per-result DEBUG line from CustomReportGenerator, logged hundreds of thousands of times here
+     */
+    @BeforeClass
+    public void quietGeneratorLogging() {
+        generatorLogLevel = LogManager.getLogger(CustomReportGenerator.class).getLevel();
+        Configurator.setLevel(CustomReportGenerator.class.getName(), Level.INFO);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreGeneratorLogging() {
+        Configurator.setLevel(CustomReportGenerator.class.getName(), generatorLogLevel);
+    }
+
+    @DataProvider(name = "threadCounts")
+    public Object[][] threadCounts() {
+        return new Object[][] {{1}, {2}, {4}, {8}, {16}};
+    }
+
+    @Test(dataProvider = "threadCounts", description = "Add results, metrics and API calls from parallel threads")
+    public void stressConcurrentResultCollection(int threadCount) throws Exception {
+        CustomReportGenerator generator = new CustomReportGenerator();
+        CustomReportGenerator.TestResult shared = new CustomReportGenerator.TestResult(
+                "sharedResult", ReportCollectionStressTest.class.getName());
+        shared.setStatus("PASSED");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < RESULTS_PER_THREAD; i++) {
+                    CustomReportGenerator.TestResult result = new CustomReportGenerator.TestResult(
+                            "test_" + thread + "_" + i, ReportCollectionStressTest.class.getName());
+                    result.setStatus(i % 10 == 0 ? "FAILED" : "PASSED");
+                    result.setDuration(1);
+                    result.setStartTime(LocalDateTime.now());
+                    result.addApiCall("GET /pet/" + i + " (Status: 200)");
+                    generator.addTestResult(result);
+                    generator.addMetric("thread_" + thread + "_" + (i % 100), i);
+                    if (i < SHARED_CALLS_PER_THREAD) {
+                        shared.addApiCall("POST /pet (Status: 200) from " + thread + "_" + i);
+                        shared.addTestData("data_" + thread + "_" + i, String.valueOf(i));
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        int expectedResults = threadCount * RESULTS_PER_THREAD;
+        List<CustomReportGenerator.TestResult> results = generator.getTestResults();
+        Set<String> names = new HashSet<>();
+        for (CustomReportGenerator.TestResult result : results) {
+            names.add(result.getTestName());
+        }
+        Assert.assertEquals(results.size(), expectedResults, "Lost or duplicated test results");
+        Assert.assertEquals(names.size(), expectedResults, "Duplicate test results");
+        Assert.assertEquals(shared.getApiCalls().size(), threadCount * SHARED_CALLS_PER_THREAD, "Lost API calls");
+        Assert.assertEquals(shared.getTestData().size(), threadCount * SHARED_CALLS_PER_THREAD, "Lost test data");
+        Assert.assertEquals(generator.getTestMetrics().size(), threadCount * 100, "Lost metrics");
+
+        generator.addTestResult(shared);
+        generator.writeReport(Writer.nullWriter());
+        Assert.assertEquals(generator.getTestMetrics().get("totalTests"), expectedResults + 1);
+        Assert.assertEquals(generator.getTestMetrics().get("failedTests"), threadCount * RESULTS_PER_THREAD / 10);
+
+        logger.info("{} threads added {} results in {} ms ({} results/ms)", threadCount, expectedResults,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), expectedResults * 1_000_000L / Math.max(1, elapsedNanos));
+    }
+}
@@ -0,0 +1,277 @@
+package com.petstore.tests;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.petstore.framework.reporting.CustomReportGenerator;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Report generation checks for CustomReportGenerator: the streamed report is complete and written
+ * incrementally; heap use vs rendering the whole report in memory first (the previous
+ * StringBuilder + Files.write approach) is logged for comparison
+ * Run with: mvn test -Dtest=ReportGenerationBenchmarkTest
+ */
+public class ReportGenerationBenchmarkTest {
+    private static final Logger logger = LogManager.getLogger(ReportGenerationBenchmarkTest.class);
+    private static final String IN_MEMORY_REPORT = "target/reports/in-memory-report.html";
+    private static final Pattern RESULT_NAME = Pattern.compile("testCreatePet_(\\d+)");
+    private static final int MAX_CHUNK_CHARS = 64 * 1024;
+    private static final String BODY = "{\"id\":1001,\"category\":{\"id\":1,\"name\":\"Dogs\"},\"name\":\"doggie\","
+            + "\"photoUrls\":[\"https://example.com/photo.jpg\"],\"tags\":[{\"id\":1,\"name\":\"friendly\"}],"
+            + "\"status\":\"available\"}";
+
+    private Level generatorLogLevel;
+
+    /**
+     * Silence the per-result DEBUG line from CustomReportGenerator, logged hundreds of thousands of times here
+     */
+    @BeforeClass
+    public void quietGeneratorLogging() {
+        generatorLogLevel = LogManager.getLogger(CustomReportGenerator.class).getLevel();
+        Configurator.setLevel(CustomReportGenerator.class.getName(), Level.INFO);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreGeneratorLogging() {
+        Configurator.setLevel(CustomReportGenerator.class.getName(), generatorLogLevel);
+    }
+
+    @DataProvider(name = "resultCounts")
+    public Object[][] resultCounts() {
+        return new Object[][] {{10_000}, {100_000}};
+    }
+
+    @Test(dataProvider = "resultCounts", description = "Stream the report to file and compare heap with in-memory rendering")
+    public void benchmarkReportHeapUsage(int resultCount) throws IOException {
+        CustomReportGenerator generator = createGenerator(resultCount);
+
+        String[] reportPath = new String[1];
+        HeapUsage streaming = measureHeap(() -> reportPath[0] = generator.generateReport());
+        Assert.assertNotNull(reportPath[0], "Report should be generated");
+        File report = new File(reportPath[0]);
+        long reportSize = report.length();
+        try {
+            assertContainsEveryResult(report.toPath(), resultCount);
+        } finally {
+            report.delete();
+        }
+
+        HeapUsage inMemory;
+        try {
+            inMemory = measureHeap(() -> {
+                StringWriter html = new StringWriter();
+                generator.writeReport(html);
+                Files.write(Paths.get(IN_MEMORY_REPORT), html.toString().getBytes(StandardCharsets.UTF_8));
+            });
+        } catch (OutOfMemoryError e) {
+            long maxHeap = Runtime.getRuntime().maxMemory();
+            inMemory = new HeapUsage(maxHeap, maxHeap);
+            logger.warn("In-memory rendering of {} results ran out of heap", resultCount);
+        } finally {
+            new File(IN_MEMORY_REPORT).delete();
+        }
+
+        // Heap figures depend on GC timing and the JVM, so they are reported rather than asserted
+        logger.info("{} results, report size {} MB | in-memory: peak {} MB, live after GC {} MB | "
+                        + "streaming: peak {} MB, live after GC {} MB",
+                resultCount, toMb(reportSize), toMb(inMemory.peak), toMb(inMemory.liveAfterGc),
+                toMb(streaming.peak), toMb(streaming.liveAfterGc));
+    }
+
+    @Test(description = "The report is handed to the writer in small pieces, never rendered whole first")
+    public void reportIsWrittenIncrementally() throws IOException {
+        ChunkRecordingWriter out = new ChunkRecordingWriter();
+        createGenerator(10_000).writeReport(out);
+
+        logger.info("Report of {} chars written in {} chunks, largest {} chars", out.total, out.chunks, out.largest);
+        Assert.assertTrue(out.largest < MAX_CHUNK_CHARS,
+                "Largest single write was " + out.largest + " chars; the report is being buffered before writing");
+        Assert.assertTrue(out.total > 100L * MAX_CHUNK_CHARS, "Report should be far larger than any single write");
+        Assert.assertTrue(out.tail.toString().endsWith("</html>"), "Report should be complete");
+    }
+
+    @Test(description = "Metrics added by the framework are rendered in the report, escaped")
+    public void metricsAreRendered() throws IOException {
+        CustomReportGenerator generator = createGenerator(1);
+        generator.addMetric("latency.GET /pet/{petId} 200.p99Ms", "12.345");
+        generator.addMetric("circuitBreaker.GET /pet/{petId}.transitions", "CLOSED -> OPEN");
+        StringWriter out = new StringWriter();
+        generator.writeReport(out);
+
+        String html = out.toString();
+        Assert.assertTrue(html.contains("<td>latency.GET /pet/{petId} 200.p99Ms</td><td>12.345</td>"), "Missing latency");
+        Assert.assertTrue(html.contains("<td>CLOSED -&gt; OPEN</td>"), "Missing escaped breaker transitions");
+        Assert.assertFalse(html.contains("<td>totalTests</td>"), "Summary metrics are shown as cards only");
+    }
+
+    /**
+     * Scan the report line by line and check every result's row and the closing tag are present
+     */
+    private void assertContainsEveryResult(Path report, int resultCount) throws IOException {
+        BitSet seen = new BitSet(resultCount);
+        String[] lastLine = new String[1];
+        try (Stream<String> lines = Files.lines(report, StandardCharsets.UTF_8)) {
+            lines.forEach(line -> {
+                Matcher matcher = RESULT_NAME.matcher(line);
+                while (matcher.find()) {
+                    seen.set(Integer.parseInt(matcher.group(1)));
+                }
+                lastLine[0] = line;
+            });
+        }
+        Assert.assertEquals(seen.cardinality(), resultCount, "Every test result should appear in the report");
+        Assert.assertEquals(lastLine[0], "</html>", "Report should end with the closing html tag");
+    }
+
+    private CustomReportGenerator createGenerator(int resultCount) {
+        CustomReportGenerator generator = new CustomReportGenerator();
+        for (int i = 0; i < resultCount; i++) {
+            CustomReportGenerator.TestResult result = new CustomReportGenerator.TestResult(
+                    "testCreatePet_" + i, "com.petstore.tests.PetApiTests");
+            result.setStatus(i % 10 == 0 ? "FAILED" : "PASSED");
+            result.setDuration(120 + i % 50);
+            result.setStartTime(LocalDateTime.now());
+            result.setEndTime(LocalDateTime.now());
+            result.addTestData("petId", String.valueOf(i));
+            result.addApiCall("POST /pet (Status: 200) | Request: " + BODY + " | Response: " + BODY);
+            result.addApiCall("GET /pet/" + i + " (Status: 200) | Response: " + BODY);
+            generator.addTestResult(result);
+        }
+        return generator;
+    }
+
+    /**
+     * Heap used above the post-GC baseline while the task runs: peak sampled every millisecond
+     * (includes uncollected garbage) and peak live heap reported by GCs during the run
+     */
+    private HeapUsage measureHeap(ThrowingTask task) throws IOException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicLong liveAfterGc = new AtomicLong(baseline);
+        NotificationListener gcListener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from(
+                        (CompositeData) notification.getUserData());
+                long used = info.getGcInfo().getMemoryUsageAfterGc().values().stream()
+                        .mapToLong(MemoryUsage::getUsed).sum();
+                liveAfterGc.accumulateAndGet(used, Math::max);
+            }
+        };
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        collectors.forEach(gc -> ((NotificationEmitter) gc).addNotificationListener(gcListener, null, null));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+        try {
+            task.run();
+        } finally {
+            running.set(false);
+            for (GarbageCollectorMXBean gc : collectors) {
+                try {
+                    ((NotificationEmitter) gc).removeNotificationListener(gcListener);
+                } catch (ListenerNotFoundException e) {
+                    logger.debug("GC listener already removed: {}", e.getMessage());
+                }
+            }
+        }
+        return new HeapUsage(Math.max(0, peak.get() - baseline), Math.max(0, liveAfterGc.get() - baseline));
+    }
+
+    private static long toMb(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    private static class HeapUsage {
+        private final long peak;
+        private final long liveAfterGc;
+
+        HeapUsage(long peak, long liveAfterGc) {
+            this.peak = peak;
+            this.liveAfterGc = liveAfterGc;
+        }
+    }
+
+    /**
+     * Discards what is written, keeping the size of the largest single write and the last few characters
+     */
+    private static class ChunkRecordingWriter extends Writer {
+        private final StringBuilder tail = new StringBuilder();
+        private long total;
+        private long chunks;
+        private int largest;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            total += length;
+            chunks++;
+            largest = Math.max(largest, length);
+            tail.append(buffer, offset, length);
+            if (tail.length() > 64) {
+                tail.delete(0, tail.length() - 64);
+            }
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            write(text.toCharArray(), offset, length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingTask {
+        void run() throws IOException;
+    }
+}
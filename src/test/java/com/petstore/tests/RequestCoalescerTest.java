@@ -0,0 +1,154 @@
+package com.petstore.tests;
+
+import com.petstore.framework.core.RequestCoalescer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * RequestCoalescer single-flight behaviour: callers joining an in-flight call share its result or its
+ * failure, checked exceptions included, and nothing is kept once it completes
+ * Run with: mvn test -Dtest=RequestCoalescerTest
+ */
+public class RequestCoalescerTest {
+    private static final String KEY = "GET /store/inventory";
+    private static final int WAITERS = 4;
+
+    @Test(description = "Callers arriving while a call is in flight get the same result instance")
+    public void testWaitersShareResult() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true);
+        List<String> inventory = List.of("available", "sold");
+
+        List<Object> outcomes = runConcurrently(coalescer, () -> inventory);
+
+        for (Object outcome : outcomes) {
+            Assert.assertSame(outcome, inventory);
+        }
+        Assert.assertEquals(coalescer.getMetrics().get("coalescing.calls"), 1L);
+        Assert.assertEquals(coalescer.getMetrics().get("coalescing.shared"), (long) WAITERS);
+
+        // Nothing is kept after completion: the next caller sends a fresh call
+        AtomicInteger sent = new AtomicInteger();
+        coalescer.execute(KEY, sent::incrementAndGet);
+        Assert.assertEquals(sent.get(), 1);
+        Assert.assertEquals(coalescer.getMetrics().get("coalescing.calls"), 2L);
+    }
+
+    @Test(description = "Callers arriving while a call is in flight get the same runtime exception")
+    public void testWaitersShareRuntimeFailure() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true);
+        IllegalStateException failure = new IllegalStateException("inventory unavailable");
+
+        List<Object> outcomes = runConcurrently(coalescer, () -> {
+            throw failure;
+        });
+
+        for (Object outcome : outcomes) {
+            Assert.assertSame(outcome, failure);
+        }
+    }
+
+    @Test(description = "A checked exception rethrown unwrapped, as RestAssured does for IO failures, "
+            + "reaches every waiter instead of leaving them blocked")
+    public void testWaitersShareCheckedFailure() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true);
+        ConnectException failure = new ConnectException("Connection refused");
+
+        List<Object> outcomes = runConcurrently(coalescer, () -> sneakyThrow(failure));
+
+        Assert.assertSame(outcomes.get(0), failure, "The caller that sent the call sees the exception itself");
+        for (Object outcome : outcomes.subList(1, outcomes.size())) {
+            Assert.assertTrue(outcome instanceof CompletionException, "Expected CompletionException, got " + outcome);
+            Assert.assertSame(((Throwable) outcome).getCause(), failure);
+        }
+    }
+
+    @Test(description = "A disabled coalescer sends every call")
+    public void testDisabledCoalescerSendsEveryCall() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(false);
+        AtomicInteger sent = new AtomicInteger();
+        CountDownLatch allStarted = new CountDownLatch(WAITERS + 1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i <= WAITERS; i++) {
+                executor.submit(() -> coalescer.execute(KEY, () -> {
+                    sent.incrementAndGet();
+                    allStarted.countDown();
+                    return awaitQuietly(allStarted);
+                }));
+            }
+        }
+
+        Assert.assertEquals(sent.get(), WAITERS + 1);
+        Assert.assertEquals(coalescer.getMetrics().get("coalescing.shared"), 0L);
+    }
+
+    /**
+     * Start one call that blocks until WAITERS more callers have joined it, then release it
+     *
+     * @return what each caller got back or threw, the caller that sent the call first
+     */
+    private static List<Object> runConcurrently(RequestCoalescer coalescer, Supplier<Object> call)
+            throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            futures.add(executor.submit(() -> outcome(() -> coalescer.execute(KEY, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return call.get();
+            }))));
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS), "Call never started");
+            for (int i = 0; i < WAITERS; i++) {
+                futures.add(executor.submit(() -> outcome(() -> coalescer.execute(KEY, call))));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((long) coalescer.getMetrics().get("coalescing.shared") < WAITERS) {
+                Assert.assertTrue(System.nanoTime() < deadline, "Waiters never joined the call in flight");
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        }
+    }
+
+    private static Object outcome(Supplier<Object> call) {
+        try {
+            return call.get();
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> Object sneakyThrow(Throwable t) throws T {
+        throw (T) t;
+    }
+}
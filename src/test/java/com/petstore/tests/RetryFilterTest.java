@@ -0,0 +1,195 @@
+package com.petstore.tests;
+
+import com.petstore.framework.filters.CircuitBreakerFilter;
+import com.petstore.framework.filters.RateLimitFilter;
+import com.petstore.framework.filters.RetryBudget;
+import com.petstore.framework.filters.RetryFilter;
+import com.petstore.framework.resilience.CircuitBreaker;
+import com.petstore.framework.resilience.CircuitBreakerOpenException;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RetryFilter behaviour against a local server that always answers 503: backoff bounds,
+ * retry budget exhaustion, the non-idempotent method exclusion and retries passing the rate limiter
+ * and circuit breaker again
+ * Run with: mvn test -Dtest=RetryFilterTest
+ */
+public class RetryFilterTest {
+    private static final Set<Integer> RETRY_STATUS_CODES = Set.of(503);
+    private static final byte[] UNAVAILABLE = "{\"code\":503,\"message\":\"unavailable\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(503, UNAVAILABLE.length);
+            exchange.getResponseBody().write(UNAVAILABLE);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @BeforeMethod
+    public void resetRequestCount() {
+        requests.set(0);
+    }
+
+    @Test(description = "Backoff is full jitter: uniform in [0, min(maxDelay, baseDelay * 2^(attempt - 1))]")
+    public void testBackoffStaysWithinJitterBounds() {
+        RetryFilter filter = new RetryFilter(10, 100, 1_000, RETRY_STATUS_CODES, Set.of(), new RetryBudget(100, 10));
+        for (int attempt = 1; attempt <= 8; attempt++) {
+            long ceiling = Math.min(1_000, 100L << (attempt - 1));
+            long max = 0;
+            for (int i = 0; i < 2_000; i++) {
+                long delay = filter.backoffMillis(attempt);
+                Assert.assertTrue(delay >= 0 && delay <= ceiling,
+                        "Delay " + delay + "ms for attempt " + attempt + " is outside [0, " + ceiling + "]");
+                max = Math.max(max, delay);
+            }
+            Assert.assertTrue(max > ceiling / 2, "Delays for attempt " + attempt + " should spread up to " + ceiling);
+        }
+        RetryFilter noDelay = new RetryFilter(3, 0, 0, RETRY_STATUS_CODES, Set.of(), new RetryBudget(100, 10));
+        Assert.assertEquals(noDelay.backoffMillis(3), 0);
+    }
+
+    @Test(description = "Idempotent calls are retried until maxAttempts")
+    public void testIdempotentCallIsRetriedUntilExhausted() {
+        RetryFilter filter = new RetryFilter(3, 0, 0, RETRY_STATUS_CODES, Set.of(), new RetryBudget(100, 10));
+
+        Response response = given(filter).get("/pet/1");
+
+        Assert.assertEquals(response.getStatusCode(), 503);
+        Assert.assertEquals(requests.get(), 3);
+        Assert.assertEquals(filter.getMetrics().get("retry.retries"), 2L);
+        Assert.assertEquals(filter.getMetrics().get("retry.exhausted"), 1L);
+    }
+
+    @Test(description = "Once the budget's retries are used, failures are returned without retrying")
+    public void testRetryBudgetExhaustion() {
+        RetryFilter filter = new RetryFilter(5, 0, 0, RETRY_STATUS_CODES, Set.of(), new RetryBudget(0, 2));
+
+        given(filter).get("/pet/1");
+        Assert.assertEquals(requests.get(), 3, "Two retries fit in the budget");
+
+        requests.set(0);
+        Response response = given(filter).get("/pet/2");
+        Assert.assertEquals(response.getStatusCode(), 503);
+        Assert.assertEquals(requests.get(), 1, "No retries are left in the budget");
+        Assert.assertEquals(filter.getMetrics().get("retry.retries"), 2L);
+        Assert.assertEquals(filter.getMetrics().get("retry.budgetRejected"), 2L);
+    }
+
+    @Test(description = "POST is not retried on a retryable status unless the endpoint opts in")
+    public void testNonIdempotentMethodIsNotRetried() {
+        RetryFilter filter = new RetryFilter(3, 0, 0, RETRY_STATUS_CODES, Set.of(), new RetryBudget(100, 10));
+
+        Response response = given(filter).body("{}").post("/pet");
+
+        Assert.assertEquals(response.getStatusCode(), 503);
+        Assert.assertEquals(requests.get(), 1);
+        Assert.assertEquals(filter.getMetrics().get("retry.nonIdempotentSkipped"), 1L);
+    }
+
+    @Test(description = "An opted-in non-idempotent endpoint is retried like an idempotent one")
+    public void testOptedInNonIdempotentEndpointIsRetried() {
+        RetryFilter filter = new RetryFilter(3, 0, 0, RETRY_STATUS_CODES, Set.of("POST /pet"),
+                new RetryBudget(100, 10));
+
+        given(filter).body("{}").post("/pet");
+
+        Assert.assertEquals(requests.get(), 3);
+        Assert.assertEquals(filter.getMetrics().get("retry.nonIdempotentSkipped"), 0L);
+    }
+
+    @Test(description = "A refused connect was never sent, so even POST is retried")
+    public void testConnectFailureIsRetriedForAnyMethod() throws IOException {
+        RetryFilter filter = new RetryFilter(3, 0, 0, RETRY_STATUS_CODES, Set.of(), new RetryBudget(100, 10));
+
+        Throwable failure = null;
+        try {
+            given(filter, "http://127.0.0.1:" + unusedPort()).body("{}").post("/pet");
+        } catch (Throwable t) {
+            failure = t;
+        }
+
+        Assert.assertTrue(failure instanceof ConnectException, "Expected ConnectException, got " + failure);
+        Assert.assertEquals(filter.getMetrics().get("retry.retries"), 2L);
+        Assert.assertEquals(filter.getMetrics().get("retry.exhausted"), 1L);
+    }
+
+    @Test(description = "Every retry takes a rate limit permit and stops once the circuit opens")
+    public void testRetriesPassRateLimitAndCircuitBreaker() {
+        RateLimitFilter rateLimit = new RateLimitFilter(60_000, 10, Map.of());
+        CircuitBreaker breaker = new CircuitBreaker("GET /pet/{petId}", 50, 100, TimeUnit.SECONDS.toNanos(10), 2, 2,
+                TimeUnit.SECONDS.toNanos(10), 1, transition -> { });
+        CircuitBreakerFilter circuitBreaker = new CircuitBreakerFilter((method, path) -> breaker);
+        RetryFilter filter = new RetryFilter(5, 0, 0, RETRY_STATUS_CODES, Set.of(), new RetryBudget(100, 10),
+                List.of(rateLimit), List.of(circuitBreaker));
+
+        Throwable failure = null;
+        try {
+            RestAssured.given().baseUri("http://127.0.0.1:" + server.getAddress().getPort())
+                    .filter(rateLimit).filter(new TimingFilter()).filter(filter)
+                    .get("/pet/1");
+        } catch (Throwable t) {
+            failure = t;
+        }
+
+        Assert.assertTrue(failure instanceof CircuitBreakerOpenException,
+                "Expected CircuitBreakerOpenException, got " + failure);
+        Assert.assertEquals(requests.get(), 2, "Two failures open the circuit; the third attempt is not sent");
+        Assert.assertEquals(rateLimit.getMetrics().get("rateLimit.permits"), 3L);
+        Assert.assertEquals(breaker.getRejectedCount(), 1);
+    }
+
+    private RequestSpecification given(RetryFilter filter) {
+        return given(filter, "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    /**
+     * Bare spec with the filter last behind an explicit TimingFilter, as RestAssuredManager chains it
+     */
+    private static RequestSpecification given(RetryFilter filter, String baseUri) {
+        return RestAssured.given().baseUri(baseUri).contentType("application/json")
+                .filter(new TimingFilter()).filter(filter);
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}